@@ -1,17 +1,20 @@
 package app;
 
-import data.Member;
 import data.Project;
-import data.Task;
-import data.TaskStatus;
+import data.ProjectSummary;
+import store.ProjectHandle;
+import store.ProjectJournal;
+import store.ProjectRepository;
 
-import javax.imageio.ImageIO;
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+import java.awt.image.BufferedImage;
 import java.io.File;
-import java.net.URL;
+import java.io.IOException;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
@@ -56,11 +59,24 @@ public class HomeFrame extends JFrame {
     private static final String BTN_NAME  = "home_bg_new_project_btn.png";
     private static final String CARD_NAME = "home_bg_project_subject.png";
 
-    private final DefaultListModel<Project> projectListModel = new DefaultListModel<Project>();
-    private Project selectedProject = null;
+    // ✅ 프로젝트 저장 폴더(실행 경로 기준)
+    private static final String STORE_DIR = "projects";
+
+    // ✅ 목록에는 파일 요약(ProjectHandle)만, 업무는 프로젝트를 열 때 불러옴
+    private final DefaultListModel<ProjectHandle> projectListModel = new DefaultListModel<ProjectHandle>();
+    private final ProjectRepository repository = new ProjectRepository(new File(STORE_DIR));
+    private ProjectHandle selectedProject = null;
 
     private final HomeCanvas canvas = new HomeCanvas();
 
+    // ✅ 시작할 때(Main) 백그라운드로 미리 읽어둘 에셋
+    // (배경은 패널 크기를 아직 몰라서 원본만, 카드/버튼은 그릴 크기로)
+    static void preloadAssets() {
+        ImageAssets.prefetch(BG_NAME);
+        ImageAssets.prefetch(CARD_NAME, S(278), S(84));
+        ImageAssets.prefetch(BTN_NAME, S(30), S(30));
+    }
+
     public HomeFrame() {
         super("팀프로젝트 홈");
 
@@ -73,9 +89,53 @@ public class HomeFrame extends JFrame {
 
         setContentPane(canvas);
 
+        // 저널 쓰기/정리 실패는 백그라운드에서 나므로 여기서 알림(EDT로 옴)
+        ProjectJournal.setErrorHandler(msg -> JOptionPane.showMessageDialog(this, msg,
+                "저장 오류", JOptionPane.ERROR_MESSAGE));
+
+        loadProjects();
+
+        // 종료 직전에 전체 저장
+        addWindowListener(new WindowAdapter() {
+            @Override
+            public void windowClosing(WindowEvent e) {
+                for (int i = 0; i < projectListModel.getSize(); i++) {
+                    saveProject(projectListModel.getElementAt(i));
+                }
+                List<String> errors = repository.closeAll();
+                if (!errors.isEmpty()) {
+                    JOptionPane.showMessageDialog(HomeFrame.this,
+                            "변경 내용을 다 저장하지 못한 프로젝트가 있습니다.\n" + String.join("\n", errors),
+                            "저장 오류", JOptionPane.ERROR_MESSAGE);
+                }
+            }
+        });
+
         refreshHomeUI();
     }
 
+    // ===================== 저장/불러오기 =====================
+
+    private void loadProjects() {
+        for (ProjectHandle h : repository.loadAll()) projectListModel.addElement(h);
+
+        List<String> errors = repository.getLoadErrors();
+        if (!errors.isEmpty()) {
+            SwingUtilities.invokeLater(() -> JOptionPane.showMessageDialog(this,
+                    "불러오지 못한 프로젝트 파일이 있습니다.\n" + String.join("\n", errors),
+                    "불러오기 오류", JOptionPane.WARNING_MESSAGE));
+        }
+    }
+
+    private void saveProject(ProjectHandle h) {
+        try {
+            repository.save(h);
+        } catch (IOException ex) {
+            JOptionPane.showMessageDialog(this, "저장 실패: " + ex.getMessage(),
+                    "저장 오류", JOptionPane.ERROR_MESSAGE);
+        }
+    }
+
     // ===================== 데이터/로직 =====================
 
     private void addProjectAndOpen() {
@@ -112,34 +172,59 @@ public class HomeFrame extends JFrame {
         // 시연 편하게: simDate도 프로젝트 시작일로 맞추기
         p.setSimDate(ps);
 
-        projectListModel.addElement(p);
-        selectedProject = p;
+        ProjectHandle h;
+        try {
+            h = repository.add(p);
+        } catch (IOException ex) {
+            JOptionPane.showMessageDialog(this, "저장 실패: " + ex.getMessage(),
+                    "저장 오류", JOptionPane.ERROR_MESSAGE);
+            return;
+        }
+
+        projectListModel.addElement(h);
+        selectedProject = h;
 
         refreshHomeUI();
 
         // ✅ 팀원 없어도 바로 열기
-        openProject(p);
+        openProject(h);
     }
 
-    private void renameProject(Project p) {
-        if (p == null) return;
+    private void renameProject(ProjectHandle h) {
+        if (h == null) return;
 
-        String name = JOptionPane.showInputDialog(this, "새 이름", p.getProjectName());
+        String name = JOptionPane.showInputDialog(this, "새 이름", h.getProjectName());
         if (name == null) return;
         name = name.trim();
         if (name.isEmpty()) return;
 
+        Project p = loadProject(h);
+        if (p == null) return;
+
         p.setProjectName(name);
+        saveProject(h);
         refreshHomeUI();
     }
 
-    private void deleteProject(Project p) {
+    // 처음 여는 프로젝트면 여기서 업무까지 전부 불러옴
+    private Project loadProject(ProjectHandle h) {
+        try {
+            return h.getProject();
+        } catch (IOException | RuntimeException ex) {
+            JOptionPane.showMessageDialog(this, "불러오기 실패: " + ex.getMessage(),
+                    "불러오기 오류", JOptionPane.ERROR_MESSAGE);
+            return null;
+        }
+    }
+
+    private void deleteProject(ProjectHandle p) {
         if (p == null) return;
 
         int ok = JOptionPane.showConfirmDialog(this, "삭제할까요?", "확인", JOptionPane.YES_NO_OPTION);
         if (ok != JOptionPane.YES_OPTION) return;
 
         projectListModel.removeElement(p);
+        repository.delete(p);
         if (selectedProject == p) selectedProject = null;
 
         if (selectedProject == null && projectListModel.getSize() > 0) {
@@ -149,12 +234,14 @@ public class HomeFrame extends JFrame {
         refreshHomeUI();
     }
 
-    private void openProject(Project sel) {
+    private void openProject(ProjectHandle h) {
+        if (h == null) return;
+
+        Project sel = loadProject(h);
         if (sel == null) return;
 
         if (sel.getMembers().isEmpty()) {
-            ProjectFrame f = new ProjectFrame(sel, "관리자");
-            f.setVisible(true);
+            showProjectFrame(new ProjectFrame(sel, "관리자"), h);
             return;
         }
 
@@ -162,44 +249,34 @@ public class HomeFrame extends JFrame {
         dlg.setVisible(true);
         if (dlg.getSelectedMemberName() == null) return;
 
-        ProjectFrame f = new ProjectFrame(sel, dlg.getSelectedMemberName());
+        showProjectFrame(new ProjectFrame(sel, dlg.getSelectedMemberName()), h);
+    }
+
+    // 프로젝트 창을 닫으면 저장 + 홈 화면 숫자 갱신
+    private void showProjectFrame(ProjectFrame f, ProjectHandle h) {
+        f.addWindowListener(new WindowAdapter() {
+            @Override
+            public void windowClosed(WindowEvent e) {
+                saveProject(h);
+                refreshHomeUI();
+            }
+        });
         f.setVisible(true);
     }
 
-    private boolean isProjectDone(Project p) {
-        if (p == null) return false;
-        if (p.getTasks().isEmpty()) return false;
-        for (Task t : p.getTasks()) {
-            if (t.getStatus() != TaskStatus.DONE) return false;
-        }
-        return true;
+    private boolean isProjectDone(ProjectHandle h) {
+        return h != null && h.isDone();
     }
 
-    private List<String> buildUrgentLines(Project p) {
+    private List<String> buildUrgentLines(ProjectHandle h) {
         List<String> lines = new ArrayList<String>();
-        if (p == null) return lines;
+        if (h == null) return lines;
 
-        LocalDate sim = p.getSimDate();
-
-        int dueSoon = 0;
-        int blocked = 0;
-        int delayed = 0;
-
-        for (Task t : p.getTasks()) {
-            if (t.getStatus() == TaskStatus.BLOCKED) blocked++;
-
-            if (t.getPlanEnd() != null && t.getStatus() != TaskStatus.DONE) {
-                long daysLeft = java.time.temporal.ChronoUnit.DAYS.between(sim, t.getPlanEnd());
-                if (daysLeft <= 3) dueSoon++;
-            }
-
-            if (t.getStatus() != TaskStatus.DONE) {
-                int delta = t.getScheduleDelta(sim);
-                if (delta < 0) delayed++;
-            }
-        }
+        int dueSoon = h.getDueSoonCount();
+        int blocked = h.getBlockedCount();
+        int delayed = h.getDelayedCount();
 
-        if (dueSoon > 0) lines.add("• 마감 3일 이내 업무 " + dueSoon + "개 발견");
+        if (dueSoon > 0) lines.add("• 마감 " + ProjectSummary.DUE_SOON_DAYS + "일 이내 업무 " + dueSoon + "개 발견");
         if (blocked > 0) lines.add("• Blocked 상태 업무 " + blocked + "개");
         if (delayed > 0) lines.add("• 지연 진행중 업무 " + delayed + "개");
 
@@ -217,14 +294,11 @@ public class HomeFrame extends JFrame {
 
     private class HomeCanvas extends JPanel {
 
-        private final ImageIcon bg = loadIcon(BG_NAME);
-        private final ImageIcon cardBg = loadIcon(CARD_NAME);
-
-        // 버튼 아이콘은 버튼 크기에 맞춰 미리 스케일
-        private final ImageIcon addIcon = scaleIcon(loadIcon(BTN_NAME), S(30), S(30));
-
         private final JButton addProjectBtn = new JButton();
 
+        // 배경을 기다리는 중인 크기(같은 크기로 또 그려도 콜백을 또 걸지 않음)
+        private final PendingImage bgWait = new PendingImage(this, BG_NAME);
+
         // ✅ 현재 날짜(simDate) 라벨
         private final JLabel simDateLabel = new JLabel("");
 
@@ -244,7 +318,10 @@ public class HomeFrame extends JFrame {
             addProjectBtn.setContentAreaFilled(false);
             addProjectBtn.setFocusPainted(false);
             addProjectBtn.setOpaque(false);
-            if (addIcon != null) addProjectBtn.setIcon(addIcon);
+            // 버튼 아이콘은 버튼 크기에 맞춰 미리 스케일, 다 읽히면 끼워 넣기
+            ImageAssets.whenReady(BTN_NAME, S(30), S(30), img -> {
+                if (img != null) addProjectBtn.setIcon(new ImageIcon(img));
+            });
 
             addProjectBtn.addActionListener(e -> addProjectAndOpen());
             add(addProjectBtn);
@@ -277,13 +354,7 @@ public class HomeFrame extends JFrame {
             add(doneCountLabel);
         }
 
-        private ImageIcon scaleIcon(ImageIcon icon, int w, int h) {
-            if (icon == null || icon.getImage() == null) return null;
-            Image img = icon.getImage().getScaledInstance(w, h, Image.SCALE_SMOOTH);
-            return new ImageIcon(img);
-        }
-
-        void refreshFromModel(DefaultListModel<Project> model, Project selected) {
+        void refreshFromModel(DefaultListModel<ProjectHandle> model, ProjectHandle selected) {
 
             // ✅ simDate 표시(선택 프로젝트 있으면 그 simDate, 없으면 오늘)
             LocalDate sim = (selected != null && selected.getSimDate() != null) ? selected.getSimDate() : LocalDate.now();
@@ -315,7 +386,7 @@ public class HomeFrame extends JFrame {
             int doing = 0;
 
             for (int i = 0; i < model.getSize(); i++) {
-                Project p = model.getElementAt(i);
+                ProjectHandle p = model.getElementAt(i);
                 if (isProjectDone(p)) done++;
                 else doing++;
             }
@@ -339,9 +410,9 @@ public class HomeFrame extends JFrame {
             int max = Math.min(model.getSize(), 7);
 
             for (int i = 0; i < max; i++) {
-                Project p = model.getElementAt(i);
+                ProjectHandle p = model.getElementAt(i);
 
-                ProjectCard card = new ProjectCard(p, cardBg);
+                ProjectCard card = new ProjectCard(p);
                 card.setBounds(cardX, firstY + i * gapY, S(278), S(84));
 
                 cards.add(card);
@@ -355,8 +426,15 @@ public class HomeFrame extends JFrame {
         protected void paintComponent(Graphics g) {
             super.paintComponent(g);
 
-            if (bg != null && bg.getImage() != null) {
-                g.drawImage(bg.getImage(), 0, 0, getWidth(), getHeight(), null);
+            // ✅ 배경은 패널 크기로 한 번만 스케일해서 보관 → 그릴 때는 1:1
+            // 아직 읽는 중이면 자리 색만 칠하고, 다 읽히면 다시 그림
+            BufferedImage bg = ImageAssets.peek(BG_NAME, getWidth(), getHeight());
+            if (bg != null) {
+                g.drawImage(bg, 0, 0, getWidth(), getHeight(), null);   // 보통 크기가 같아서 1:1
+            } else if (!ImageAssets.isMissing(BG_NAME)) {
+                g.setColor(ImageAssets.PLACEHOLDER);
+                g.fillRect(0, 0, getWidth(), getHeight());
+                bgWait.request(getWidth(), getHeight());
             } else {
                 g.setColor(Color.LIGHT_GRAY);
                 g.fillRect(0, 0, getWidth(), getHeight());
@@ -367,15 +445,15 @@ public class HomeFrame extends JFrame {
     }
 
     private class ProjectCard extends JPanel {
-        private final Project project;
-        private final ImageIcon bg;
+        private final ProjectHandle project;
+
+        private final PendingImage bgWait = new PendingImage(this, CARD_NAME);
 
         private final JLabel nameLabel = new JLabel();
         private final JLabel dateLabel = new JLabel();
 
-        ProjectCard(Project project, ImageIcon bg) {
+        ProjectCard(ProjectHandle project) {
             this.project = project;
-            this.bg = bg;
 
             setLayout(null);
             setOpaque(false);
@@ -447,11 +525,15 @@ public class HomeFrame extends JFrame {
         protected void paintComponent(Graphics g) {
             super.paintComponent(g);
 
-            if (bg != null && bg.getImage() != null) {
-                g.drawImage(bg.getImage(), 0, 0, getWidth(), getHeight(), null);
+            BufferedImage bg = ImageAssets.peek(CARD_NAME, getWidth(), getHeight());
+            if (bg != null) {
+                g.drawImage(bg, 0, 0, getWidth(), getHeight(), null);   // 보통 크기가 같아서 1:1
             } else {
                 g.setColor(Color.WHITE);
                 g.fillRect(0, 0, getWidth(), getHeight());
+                if (!ImageAssets.isMissing(CARD_NAME)) {
+                    bgWait.request(getWidth(), getHeight());
+                }
             }
 
             if (selectedProject == project) {
@@ -464,42 +546,23 @@ public class HomeFrame extends JFrame {
         }
     }
 
-    // ===================== 이미지 로더 =====================
-
-    private ImageIcon loadIcon(String fileName) {
-        if (fileName == null) return null;
+    // 아직 안 읽힌 이미지: (이름, 크기)마다 whenReady 콜백을 하나만 걸고, 다 읽히면 다시 그림
+    // paintComponent는 읽는 동안 몇 번이고 불리므로 거기서 바로 whenReady를 부르면 콜백이 쌓임
+    private static final class PendingImage {
+        private final Component owner;
+        private final String name;
+        private int w = -1, h = -1;     // 콜백을 걸어 둔 크기(크기가 바뀌면 새로)
 
-        String[] candidates = new String[] {
-                "/" + fileName,
-                "/img/" + fileName,
-                "/images/" + fileName,
-                "/assets/" + fileName,
-                "/ui/img/" + fileName
-        };
-
-        for (String c : candidates) {
-            try {
-                URL url = HomeFrame.class.getResource(c);
-                if (url != null) return new ImageIcon(url);
-            } catch (Exception ignore) {}
+        PendingImage(Component owner, String name) {
+            this.owner = owner;
+            this.name = name;
         }
 
-        String[] fileCandidates = new String[] {
-                fileName,
-                "assets/" + fileName,
-                "img/" + fileName,
-                "images/" + fileName
-        };
-
-        for (String p : fileCandidates) {
-            try {
-                File f = new File(p);
-                if (f.exists()) {
-                    return new ImageIcon(ImageIO.read(f));
-                }
-            } catch (Exception ignore) {}
+        void request(int w, int h) {
+            if (w == this.w && h == this.h) return;
+            this.w = w;
+            this.h = h;
+            ImageAssets.whenReady(name, w, h, img -> owner.repaint());
         }
-
-        return null;
     }
 }
@@ -0,0 +1,223 @@
+package app;
+
+import javax.imageio.ImageIO;
+import javax.swing.ImageIcon;
+import javax.swing.SwingUtilities;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.net.URL;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+/**
+ * 이미지 에셋 캐시(프로그램 전체에서 하나, HomeFrame/ProjectFrame이 같이 씀)
+ *
+ * ✅ 파일 이름마다 경로 찾기 + PNG 읽기는 딱 한 번
+ *    → 읽은 이미지는 그리기 빠른 BufferedImage(INT_RGB/ARGB)로 바꿔서 보관
+ *    → 못 찾은 이름도 기억(창 열 때마다 9군데를 다시 뒤지지 않게)
+ * ✅ 크기 맞춘 이미지도 (이름, 가로, 세로)별로 보관(화면 SCALE 적용한 크기)
+ *    → ProjectFrame을 두 번째 열 때부터는 파일 읽기/스케일링 없음
+ * ✅ 시작할 때 prefetch로 백그라운드 스레드 여러 개가 동시에(병렬) 미리 읽기
+ *    → 화면은 먼저 자리 색(PLACEHOLDER)으로 뜨고, whenReady로 다 읽힌 그림을 EDT에서 끼워 넣음
+ *    → 화면 쪽은 기다리지 않음(peek으로 있으면 그리고, 없으면 자리 색/자리 아이콘)
+ *
+ * 여러 스레드에서 불러도 됨(같은 이미지는 한 번만 만들어짐)
+ */
+public final class ImageAssets {
+
+    private ImageAssets() {}
+
+    // 이미지가 아직 안 읽혔을 때 칠하는 색
+    public static final Color PLACEHOLDER = new Color(236, 239, 245);
+
+    // 못 찾은 이미지 자리표시(ConcurrentHashMap엔 null을 못 넣음)
+    private static final BufferedImage MISSING = new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB);
+
+    // 이름(또는 이름@가로x세로) → 읽는 중/다 읽은 이미지
+    private static final Map<String, CompletableFuture<BufferedImage>> raw = new ConcurrentHashMap<String, CompletableFuture<BufferedImage>>();
+    private static final Map<String, CompletableFuture<BufferedImage>> scaled = new ConcurrentHashMap<String, CompletableFuture<BufferedImage>>();
+
+    // 미리 읽기 스레드(프로그램 종료를 막지 않게 daemon)
+    private static final ExecutorService POOL = Executors.newFixedThreadPool(
+            Math.max(2, Runtime.getRuntime().availableProcessors()), r -> {
+                Thread t = new Thread(r, "asset-loader");
+                t.setDaemon(true);
+                return t;
+            });
+
+    // 아직 안 읽힌 버튼 이미지 자리(같은 크기, PLACEHOLDER 색) → whenReady에서 진짜 아이콘으로 교체
+    public static ImageIcon placeholderIcon(int w, int h) {
+        BufferedImage img = new BufferedImage(Math.max(1, w), Math.max(1, h), BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2 = img.createGraphics();
+        g2.setColor(PLACEHOLDER);
+        g2.fillRect(0, 0, img.getWidth(), img.getHeight());
+        g2.dispose();
+        return new ImageIcon(img);
+    }
+
+    // ===================== 백그라운드 미리 읽기 =====================
+
+    public static void prefetch(String fileName) {
+        if (fileName != null) rawFuture(fileName);
+    }
+
+    public static void prefetch(String fileName, int w, int h) {
+        if (fileName != null) scaledFuture(fileName, w, h);
+    }
+
+    // 다 읽혔으면 그 이미지, 아니면 null(기다리지 않고 백그라운드로 읽기 시작)
+    public static BufferedImage peek(String fileName, int w, int h) {
+        if (fileName == null) return null;
+        CompletableFuture<BufferedImage> f = scaledFuture(fileName, w, h);
+        return f.isDone() ? orNull(f.join()) : null;
+    }
+
+    // 다 읽어봤는데 파일이 없음(읽는 중이면 false)
+    public static boolean isMissing(String fileName) {
+        CompletableFuture<BufferedImage> f = (fileName == null) ? null : raw.get(fileName);
+        return f != null && f.isDone() && f.join() == MISSING;
+    }
+
+    // EDT에서 호출: 이미 있으면 바로, 아니면 다 읽힌 뒤 EDT에서 onReady(못 찾으면 null)
+    public static void whenReady(String fileName, int w, int h, Consumer<BufferedImage> onReady) {
+        if (fileName == null) {
+            onReady.accept(null);
+            return;
+        }
+        CompletableFuture<BufferedImage> f = scaledFuture(fileName, w, h);
+        if (f.isDone()) onReady.accept(orNull(f.join()));
+        else f.thenAccept(img -> SwingUtilities.invokeLater(() -> onReady.accept(orNull(img))));
+    }
+
+    // 처음 요청한 쪽만 읽기를 시작(POOL에서), 같은 이름은 같은 future
+    private static CompletableFuture<BufferedImage> rawFuture(String fileName) {
+        CompletableFuture<BufferedImage> f = raw.get(fileName);
+        if (f != null) return f;
+        CompletableFuture<BufferedImage> mine = new CompletableFuture<BufferedImage>();
+        f = raw.putIfAbsent(fileName, mine);
+        if (f != null) return f;
+
+        POOL.execute(() -> mine.complete(load(fileName)));
+        return mine;
+    }
+
+    // 크기 맞춘 이미지(같은 크기 요청은 같은 이미지)
+    private static CompletableFuture<BufferedImage> scaledFuture(String fileName, int w, int h) {
+        String key = fileName + "@" + w + "x" + h;
+        CompletableFuture<BufferedImage> f = scaled.get(key);
+        if (f != null) return f;
+        CompletableFuture<BufferedImage> mine = new CompletableFuture<BufferedImage>();
+        f = scaled.putIfAbsent(key, mine);
+        if (f != null) return f;
+
+        // 원본을 기다리며 스레드를 붙잡지 않게 이어 붙이기만
+        rawFuture(fileName).thenAcceptAsync(src -> mine.complete(scaleOrSame(src, w, h)), POOL);
+        return mine;
+    }
+
+    private static BufferedImage orNull(BufferedImage img) {
+        return (img == MISSING) ? null : img;
+    }
+
+    // ===================== 읽기 =====================
+
+    private static BufferedImage load(String fileName) {
+        // 1) classpath에서 찾기
+        String[] candidates = new String[] {
+                "/" + fileName,
+                "/img/" + fileName,
+                "/images/" + fileName,
+                "/assets/" + fileName,
+                "/ui/img/" + fileName
+        };
+
+        for (String c : candidates) {
+            try {
+                URL url = ImageAssets.class.getResource(c);
+                if (url != null) {
+                    BufferedImage img = toCompatible(ImageIO.read(url));
+                    if (img != null) return img;
+                }
+            } catch (Exception ignore) {}
+        }
+
+        // 2) 실행 경로 기준 파일로 찾기
+        String[] fileCandidates = new String[] {
+                fileName,
+                "assets/" + fileName,
+                "img/" + fileName,
+                "images/" + fileName
+        };
+
+        for (String p : fileCandidates) {
+            try {
+                File f = new File(p);
+                if (f.exists()) {
+                    BufferedImage img = toCompatible(ImageIO.read(f));
+                    if (img != null) return img;
+                }
+            } catch (Exception ignore) {}
+        }
+
+        return MISSING;
+    }
+
+    private static BufferedImage toCompatible(BufferedImage src) {
+        if (src == null) return null;
+        int type = src.getColorModel().hasAlpha() ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+        if (src.getType() == type) return src;
+        BufferedImage dst = new BufferedImage(src.getWidth(), src.getHeight(), type);
+        Graphics2D g2 = dst.createGraphics();
+        g2.drawImage(src, 0, 0, null);
+        g2.dispose();
+        return dst;
+    }
+
+    // ===================== 고퀄 스케일링(멀티스텝) =====================
+
+    private static BufferedImage scaleOrSame(BufferedImage src, int w, int h) {
+        if (src == MISSING || w <= 0 || h <= 0) return src;
+        if (src.getWidth() == w && src.getHeight() == h) return src;
+        try {
+            return scaleImageHQ(src, w, h);
+        } catch (RuntimeException ex) {
+            // 스케일만 실패한 것(파일은 있음) → 원본을 그대로 줌(그리는 쪽이 크기 맞춰 그림)
+            return src;
+        }
+    }
+
+    private static BufferedImage scaleImageHQ(BufferedImage src, int targetW, int targetH) {
+        BufferedImage img = src;
+
+        // 다운스케일일 때는 멀티스텝(반씩 줄이기)로 선명도 유지
+        if (targetW < img.getWidth() && targetH < img.getHeight()) {
+            int w = img.getWidth();
+            int h = img.getHeight();
+            while (w / 2 >= targetW && h / 2 >= targetH) {
+                w /= 2;
+                h /= 2;
+                img = scaleOnce(img, w, h);
+            }
+        }
+
+        return scaleOnce(img, targetW, targetH);
+    }
+
+    private static BufferedImage scaleOnce(BufferedImage src, int w, int h) {
+        BufferedImage dst = new BufferedImage(w, h, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = dst.createGraphics();
+        g2.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+        g2.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+        g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g2.drawImage(src, 0, 0, w, h, null);
+        g2.dispose();
+        return dst;
+    }
+}
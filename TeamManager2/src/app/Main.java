@@ -4,6 +4,11 @@ import javax.swing.SwingUtilities;
 
 public class Main {
     public static void main(String[] args) {
+        // ✅ 화면 이미지는 백그라운드에서 동시에(병렬) 미리 읽기 시작
+        // → 홈 화면은 PNG를 기다리지 않고 바로 뜨고(자리 색), 그림은 읽히는 대로 끼워 넣음
+        HomeFrame.preloadAssets();
+        ProjectFrame.preloadAssets();
+
         SwingUtilities.invokeLater(new Runnable() {
             @Override public void run() {
                 HomeFrame f = new HomeFrame();
@@ -1,23 +1,24 @@
 package app;
 
 import calc.Analyzer;
+import calc.ProjectStats;
 import data.Member;
 import data.Project;
+import data.ProjectChangeListener;
 import data.Task;
 import data.TaskStatus;
 import ui.*;
 
-import javax.imageio.ImageIO;
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
 import java.awt.image.BufferedImage;
-import java.io.File;
-import java.net.URL;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Project 화면(대시보드 + 팀 화면 커스텀)
@@ -108,6 +109,25 @@ public class ProjectFrame extends JFrame implements DataChangeListener {
     private static final int TEAM_MEMBER_BADGE_W = 105;
     private static final int TEAM_MEMBER_BADGE_H = 30;
 
+    // ✅ 시작할 때(Main) 백그라운드로 미리 읽어둘 에셋(RootCanvas가 쓰는 크기 그대로)
+    // → 홈 화면을 보는 동안 다 읽혀서, 프로젝트 창은 파일 읽기 없이 바로 뜸
+    static void preloadAssets() {
+        ImageAssets.prefetch(BG_DASH, S(BASE_W), S(BASE_H));
+        ImageAssets.prefetch(BG_TEAM, S(BASE_W), S(BASE_H));
+        ImageAssets.prefetch(BG_PLAN, S(BASE_W), S(BASE_H));
+
+        ImageAssets.prefetch(HOME_BTN, S(HOME_W), S(HOME_H));
+        String[] nav = { BTN_DASH, BTN_DASH_CH, BTN_TEAM, BTN_TEAM_CH, BTN_PLAN, BTN_PLAN_CH,
+                BTN_JOB, BTN_JOB_CH, BTN_GANTT, BTN_GANTT_CH };
+        for (String n : nav) ImageAssets.prefetch(n, S(NAV_W), S(NAV_H));
+
+        ImageAssets.prefetch(TEAM_BG_CATEGORY, S(TEAM_CATEGORY_W), S(TEAM_CATEGORY_H));
+        ImageAssets.prefetch(TEAM_BTN_NEW_CATEGORY, S(TEAM_CATEGORY_W), S(TEAM_CATEGORY_H));
+        ImageAssets.prefetch(TEAM_BTN_NEW_MEMBER, S(TEAM_NEW_MEMBER_W), S(TEAM_NEW_MEMBER_H));
+        ImageAssets.prefetch(TEAM_BG_MEMBER, S(TEAM_MEMBER_W), S(TEAM_MEMBER_H));
+        ImageAssets.prefetch(TEAM_BG_MEMBER_CATEGORY, S(TEAM_MEMBER_BADGE_W), S(TEAM_MEMBER_BADGE_H));
+    }
+
     // ===== 기존 기능 패널(카드로 띄움) =====
     private final TeamPanel teamPanel;         // 기존 로직 갱신용
     private final BoardPanel boardPanel;
@@ -115,8 +135,20 @@ public class ProjectFrame extends JFrame implements DataChangeListener {
     private final GanttPanel ganttPanel;
     private final DashboardPanel dashboardPanel;
 
+    // ✅ 업무 표 모델(PLAN 표와 TeamPanel 표가 같이 씀, 이벤트도 여기서 한 번만)
+    private final TaskGridModel taskGrid;
+
     private final RootCanvas canvas;
 
+    // ✅ 연속 변경을 프레임(16ms)당 한 번으로 묶는 갱신 스케줄러
+    private final RefreshScheduler refresher = new RefreshScheduler();
+
+    // Project 변경 이벤트 구독 목록(창 닫을 때 해제)
+    private final List<ProjectChangeListener> subscriptions = new ArrayList<>();
+
+    // ✅ 경고 확인용 분석(백그라운드, 새 변경이 오면 이전 건 취소)
+    private final AnalysisRunner alertAnalysis;
+
     private boolean suppressNextAlert = false;
 
     public ProjectFrame(Project project, String loginName) {
@@ -125,20 +157,35 @@ public class ProjectFrame extends JFrame implements DataChangeListener {
         if (project == null) throw new IllegalArgumentException("ProjectFrame: project is null");
         this.project = project;
         this.loginName = loginName;
+        this.alertAnalysis = new AnalysisRunner(project, this);
 
         setDefaultCloseOperation(JFrame.DISPOSE_ON_CLOSE);
         setResizable(false);
 
+        taskGrid = new TaskGridModel(project, this, this);
+        subscribe(taskGrid);
+
+        // 팀 화면 표는 따로(정렬/거르기 안 함, 진행률은 읽기 전용 "n%")
+        TaskGridModel teamGrid = new TaskGridModel(project, this, this, false);
+        subscribe(teamGrid);
+
         // 기존 패널들
-        teamPanel = new TeamPanel(project, this);
+        teamPanel = new TeamPanel(project, this, teamGrid);
         boardPanel = new BoardPanel(project, this);
         myTasksPanel = new MyTasksPanel(project, loginName, this);
         ganttPanel = new GanttPanel(project);
-        dashboardPanel = new DashboardPanel(project);
+        dashboardPanel = new DashboardPanel(project, refresher);
+
+        // ✅ 각 패널이 자기가 그리는 변경만 직접 반영
+        subscribe(teamPanel);
+        subscribe(boardPanel);
+        subscribe(myTasksPanel);
+        subscribe(dashboardPanel);
 
         // 메인 캔버스
         canvas = new RootCanvas();
         setContentPane(canvas);
+        subscribe(canvas);
 
         // 메뉴바
         setJMenuBar(makeMenuBar());
@@ -147,8 +194,7 @@ public class ProjectFrame extends JFrame implements DataChangeListener {
         pack();
         setLocationRelativeTo(null);
 
-        // 초기 분석/갱신
-        Analyzer.recalculate(project);
+        // 초기 경고 확인
         onDataChanged();
 
         // ✅ 처음엔 대시보드가 선택된 상태
@@ -197,31 +243,41 @@ public class ProjectFrame extends JFrame implements DataChangeListener {
         return bar;
     }
 
+    private void subscribe(ProjectChangeListener l) {
+        project.addChangeListener(l);
+        subscriptions.add(l);
+    }
+
+    @Override
+    public void dispose() {
+        for (ProjectChangeListener l : subscriptions) project.removeChangeListener(l);
+        subscriptions.clear();
+        refresher.stop();
+        alertAnalysis.cancel();
+        canvas.overlayAnalysis.cancel();
+        super.dispose();
+    }
+
     // ===== 데이터 변경 콜백 =====
+    // 화면 갱신은 Project 변경 이벤트로 각 패널이 처리하므로
+    // 여기서는 사용자 편집이 끝난 뒤 경고만 확인(연타해도 프레임당 한 번)
     @Override
     public void onDataChanged() {
-        Analyzer.recalculate(project);
-
-        // 기존 패널 갱신
-        teamPanel.refreshMembersUI();
-        teamPanel.refreshTasksUI();
-        boardPanel.refresh();
-        myTasksPanel.refresh();
-        ganttPanel.refresh();
-        dashboardPanel.refresh();
-
-        // 오버레이 갱신
-        canvas.refreshDashboardOverlay();
-        canvas.refreshTeamOverlay();
-        canvas.refreshPlanUI();
-
-        if (!suppressNextAlert) {
-            String alert = Analyzer.checkAlerts(project);
+        refresher.request("alerts", this::checkAlerts);
+    }
+
+    // 분석은 백그라운드에서, 결과가 오면(창이 아직 열려 있으면) 경고창
+    private void checkAlerts() {
+        boolean suppress = suppressNextAlert;
+        suppressNextAlert = false;
+
+        alertAnalysis.request(stats -> {
+            if (suppress || !isDisplayable()) return;
+            String alert = Analyzer.checkAlerts(stats);
             if (alert != null) {
                 JOptionPane.showMessageDialog(this, alert, "주의", JOptionPane.WARNING_MESSAGE);
             }
-        }
-        suppressNextAlert = false;
+        });
     }
 
     private void suppressAlertOnce() {
@@ -231,12 +287,14 @@ public class ProjectFrame extends JFrame implements DataChangeListener {
     // ===== 화면 전환 =====
     private enum View { DASHBOARD, TEAM, PLAN, JOB, GANTT }
 
-    private class RootCanvas extends JPanel {
+    private class RootCanvas extends JPanel implements ProjectChangeListener {
 
         // 배경(스케일된 BufferedImage로 보관)
-        private final BufferedImage bgDashScaled;
-        private final BufferedImage bgTeamScaled;
-        private final BufferedImage bgPlanScaled;
+        // 배경은 백그라운드로 읽히는 대로 끼워 넣음(그 전엔 자리 색)
+        private BufferedImage bgDashScaled;
+        private BufferedImage bgTeamScaled;
+        private BufferedImage bgPlanScaled;
+        private boolean bgDashReady = false;
 
         // 네비 버튼들
         private final JButton homeBtn;
@@ -247,12 +305,12 @@ public class ProjectFrame extends JFrame implements DataChangeListener {
         private final JButton jobBtn;
         private final JButton ganttBtn;
 
-        // 아이콘(기본/선택)
-        private final ImageIcon dashIcon, dashIconCh;
-        private final ImageIcon teamIcon, teamIconCh;
-        private final ImageIcon planIcon, planIconCh;
-        private final ImageIcon jobIcon, jobIconCh;
-        private final ImageIcon ganttIcon, ganttIconCh;
+        // 아이콘(기본/선택), 다 읽힐 때까지는 자리 아이콘
+        private ImageIcon dashIcon, dashIconCh;
+        private ImageIcon teamIcon, teamIconCh;
+        private ImageIcon planIcon, planIconCh;
+        private ImageIcon jobIcon, jobIconCh;
+        private ImageIcon ganttIcon, ganttIconCh;
 
         // 프로젝트 텍스트(대시보드에서만)
         private final JLabel projectNameLabel = new JLabel();
@@ -266,6 +324,7 @@ public class ProjectFrame extends JFrame implements DataChangeListener {
 
         // 긴급 알림(최대 3줄)
         private final JLabel[] urgentLabels = new JLabel[] { new JLabel(""), new JLabel(""), new JLabel("") };
+        private final AnalysisRunner overlayAnalysis = new AnalysisRunner(project, this);
 
         // 콘텐츠(PLAN/JOB/GANTT만 사용)
         private final CardLayout cardLayout = new CardLayout();
@@ -275,11 +334,12 @@ public class ProjectFrame extends JFrame implements DataChangeListener {
         private final PlanRegisterPanel planPanel = new PlanRegisterPanel();
 
         // ===== TEAM 오버레이 =====
-        private final BufferedImage teamRoleBgScaled;          // team_bg_category (121x38)
-        private final ImageIcon teamAddRoleIcon;              // team_btn_new_category (121x38)
-        private final ImageIcon teamAddMemberIcon;            // team_btn_new_member (156x50)
-        private final BufferedImage teamMemberBgScaled;        // team_bg_member (990x107)
-        private final BufferedImage teamMemberBadgeBgScaled;   // team_bg_member_category (105x30)
+        // (버튼 이미지는 자리 아이콘으로 시작, 배경 이미지는 null = 회색 칠하다가 다 읽히면 끼워 넣음)
+        private BufferedImage teamRoleBgScaled;          // team_bg_category (121x38)
+        private ImageIcon teamAddRoleIcon;              // team_btn_new_category (121x38)
+        private ImageIcon teamAddMemberIcon;            // team_btn_new_member (156x50)
+        private BufferedImage teamMemberBgScaled;        // team_bg_member (990x107)
+        private BufferedImage teamMemberBadgeBgScaled;   // team_bg_member_category (105x30)
 
         private final List<JButton> teamRoleButtons = new ArrayList<>();
         private JButton teamAddRoleBtn;
@@ -290,28 +350,32 @@ public class ProjectFrame extends JFrame implements DataChangeListener {
 
         private View view = View.DASHBOARD;
 
+        // 바뀌었지만 아직 안 보여서 갱신을 미룬 화면들
+        private final EnumSet<View> dirtyViews = EnumSet.noneOf(View.class);
+
         RootCanvas() {
             setLayout(null);
 
             // ✅ 콘텐츠 영역(그림 그리는 영역)의 "정확한" 크기
             setPreferredSize(new Dimension(S(BASE_W), S(BASE_H)));
 
-            // 배경을 한 번만 고퀄 스케일링
-            bgDashScaled = scaleImageHQ(loadImage(BG_DASH), S(BASE_W), S(BASE_H));
-            bgTeamScaled = scaleImageHQ(loadImage(BG_TEAM), S(BASE_W), S(BASE_H));
-            BufferedImage planRaw = loadImage(BG_PLAN);
-            bgPlanScaled = (planRaw != null) ? scaleImageHQ(planRaw, S(BASE_W), S(BASE_H)) : null;
+            // 배경/버튼은 ImageAssets에서(프로그램 전체에서 한 번만 읽고 고퀄 스케일링)
+            // (아무것도 기다리지 않음: 배경은 자리 색, 버튼은 자리 아이콘으로 먼저 만들고 다 읽히면 끼워 넣음
+            //  → 버튼 쪽은 버튼을 다 만든 뒤 loadButtonImages()에서)
+            ImageAssets.whenReady(BG_DASH, S(BASE_W), S(BASE_H), img -> {
+                bgDashScaled = img;
+                bgDashReady = true;
+                repaint();
+            });
+            ImageAssets.whenReady(BG_TEAM, S(BASE_W), S(BASE_H), img -> { bgTeamScaled = img; repaint(); });
+            ImageAssets.whenReady(BG_PLAN, S(BASE_W), S(BASE_H), img -> { bgPlanScaled = img; repaint(); });
 
             // TEAM 에셋
-            teamRoleBgScaled = scaleImageHQ(loadImage(TEAM_BG_CATEGORY), S(TEAM_CATEGORY_W), S(TEAM_CATEGORY_H));
-            teamAddRoleIcon = loadScaledIcon(TEAM_BTN_NEW_CATEGORY, S(TEAM_CATEGORY_W), S(TEAM_CATEGORY_H));
-            teamAddMemberIcon = loadScaledIcon(TEAM_BTN_NEW_MEMBER, S(TEAM_NEW_MEMBER_W), S(TEAM_NEW_MEMBER_H));
-            teamMemberBgScaled = scaleImageHQ(loadImage(TEAM_BG_MEMBER), S(TEAM_MEMBER_W), S(TEAM_MEMBER_H));
-            teamMemberBadgeBgScaled = scaleImageHQ(loadImage(TEAM_BG_MEMBER_CATEGORY), S(TEAM_MEMBER_BADGE_W), S(TEAM_MEMBER_BADGE_H));
+            teamAddRoleIcon = ImageAssets.placeholderIcon(S(TEAM_CATEGORY_W), S(TEAM_CATEGORY_H));
+            teamAddMemberIcon = ImageAssets.placeholderIcon(S(TEAM_NEW_MEMBER_W), S(TEAM_NEW_MEMBER_H));
 
             // ---------- 홈 버튼 ----------
-            ImageIcon homeScaled = loadScaledIcon(HOME_BTN, S(HOME_W), S(HOME_H));
-            homeBtn = makeImageButton(homeScaled);
+            homeBtn = makeImageButton(ImageAssets.placeholderIcon(S(HOME_W), S(HOME_H)));
             homeBtn.setBounds(
                     S(dashRelX(-2018)), S(dashRelY(-21)),
                     S(HOME_W), S(HOME_H)
@@ -329,20 +393,12 @@ public class ProjectFrame extends JFrame implements DataChangeListener {
             add(homeBtn);
 
             // ---------- 네비 버튼들 ----------
-            dashIcon   = loadScaledIcon(BTN_DASH,     S(NAV_W), S(NAV_H));
-            dashIconCh = loadScaledIcon(BTN_DASH_CH,  S(NAV_W), S(NAV_H));
-
-            teamIcon   = loadScaledIcon(BTN_TEAM,    S(NAV_W), S(NAV_H));
-            teamIconCh = loadScaledIcon(BTN_TEAM_CH, S(NAV_W), S(NAV_H));
-
-            planIcon   = loadScaledIcon(BTN_PLAN,    S(NAV_W), S(NAV_H));
-            planIconCh = loadScaledIcon(BTN_PLAN_CH, S(NAV_W), S(NAV_H));
-
-            jobIcon   = loadScaledIcon(BTN_JOB,    S(NAV_W), S(NAV_H));
-            jobIconCh = loadScaledIcon(BTN_JOB_CH, S(NAV_W), S(NAV_H));
-
-            ganttIcon   = loadScaledIcon(BTN_GANTT,    S(NAV_W), S(NAV_H));
-            ganttIconCh = loadScaledIcon(BTN_GANTT_CH, S(NAV_W), S(NAV_H));
+            ImageIcon navWait = ImageAssets.placeholderIcon(S(NAV_W), S(NAV_H));
+            dashIcon  = dashIconCh  = navWait;
+            teamIcon  = teamIconCh  = navWait;
+            planIcon  = planIconCh  = navWait;
+            jobIcon   = jobIconCh   = navWait;
+            ganttIcon = ganttIconCh = navWait;
 
             dashBtn = makeImageButton(dashIcon);
             teamBtn = makeImageButton(teamIcon);
@@ -443,6 +499,51 @@ public class ProjectFrame extends JFrame implements DataChangeListener {
             refreshDashboardOverlay();
             applyNavIcons();
             setView(View.DASHBOARD);
+
+            loadButtonImages();
+        }
+
+        // 버튼/카드 이미지: 다 읽히면 EDT에서 바꿔 끼움(Main에서 미리 읽어둔 것이면 바로)
+        // 파일이 없으면 null → 자리 아이콘을 지우고 이미지 없는 버튼으로(예전과 같음)
+        private void loadButtonImages() {
+            whenIconReady(HOME_BTN, S(HOME_W), S(HOME_H), ic -> homeBtn.setIcon(ic));
+
+            whenIconReady(BTN_DASH,     S(NAV_W), S(NAV_H), ic -> { dashIcon = ic;    applyNavIcons(); });
+            whenIconReady(BTN_DASH_CH,  S(NAV_W), S(NAV_H), ic -> { dashIconCh = ic;  applyNavIcons(); });
+            whenIconReady(BTN_TEAM,     S(NAV_W), S(NAV_H), ic -> { teamIcon = ic;    applyNavIcons(); });
+            whenIconReady(BTN_TEAM_CH,  S(NAV_W), S(NAV_H), ic -> { teamIconCh = ic;  applyNavIcons(); });
+            whenIconReady(BTN_PLAN,     S(NAV_W), S(NAV_H), ic -> { planIcon = ic;    applyNavIcons(); });
+            whenIconReady(BTN_PLAN_CH,  S(NAV_W), S(NAV_H), ic -> { planIconCh = ic;  applyNavIcons(); });
+            whenIconReady(BTN_JOB,      S(NAV_W), S(NAV_H), ic -> { jobIcon = ic;     applyNavIcons(); });
+            whenIconReady(BTN_JOB_CH,   S(NAV_W), S(NAV_H), ic -> { jobIconCh = ic;   applyNavIcons(); });
+            whenIconReady(BTN_GANTT,    S(NAV_W), S(NAV_H), ic -> { ganttIcon = ic;   applyNavIcons(); });
+            whenIconReady(BTN_GANTT_CH, S(NAV_W), S(NAV_H), ic -> { ganttIconCh = ic; applyNavIcons(); });
+
+            whenIconReady(TEAM_BTN_NEW_CATEGORY, S(TEAM_CATEGORY_W), S(TEAM_CATEGORY_H), ic -> {
+                teamAddRoleIcon = ic;
+                if (teamAddRoleBtn != null) teamAddRoleBtn.setIcon(ic);
+            });
+            whenIconReady(TEAM_BTN_NEW_MEMBER, S(TEAM_NEW_MEMBER_W), S(TEAM_NEW_MEMBER_H), ic -> {
+                teamAddMemberIcon = ic;
+                if (teamAddMemberBtn != null) teamAddMemberBtn.setIcon(ic);
+            });
+            ImageAssets.whenReady(TEAM_BG_CATEGORY, S(TEAM_CATEGORY_W), S(TEAM_CATEGORY_H), img -> {
+                teamRoleBgScaled = img;
+                if (img != null) for (JButton b : teamRoleButtons) b.setIcon(new ImageIcon(img));
+            });
+            // 멤버 카드/역할 배지는 그릴 때 필드를 봄 → 다시 그리기만
+            ImageAssets.whenReady(TEAM_BG_MEMBER, S(TEAM_MEMBER_W), S(TEAM_MEMBER_H), img -> {
+                teamMemberBgScaled = img;
+                repaint();
+            });
+            ImageAssets.whenReady(TEAM_BG_MEMBER_CATEGORY, S(TEAM_MEMBER_BADGE_W), S(TEAM_MEMBER_BADGE_H), img -> {
+                teamMemberBadgeBgScaled = img;
+                repaint();
+            });
+        }
+
+        private void whenIconReady(String name, int w, int h, Consumer<ImageIcon> onReady) {
+            ImageAssets.whenReady(name, w, h, img -> onReady.accept(img == null ? null : new ImageIcon(img)));
         }
 
         private JPanel wrapPanel(JComponent inner) {
@@ -469,18 +570,21 @@ public class ProjectFrame extends JFrame implements DataChangeListener {
                 name = name.trim();
                 if (name.isEmpty()) return;
 
+                // 이름은 프로젝트 안에서 유일(로그인/담당자를 이름으로 찾음)
+                if (project.findMemberByName(name) != null) {
+                    JOptionPane.showMessageDialog(ProjectFrame.this, "이미 있는 이름입니다.");
+                    return;
+                }
+
                 suppressAlertOnce();
 
-                // 멤버 추가
+                // 멤버 추가(memberAdded 이벤트로 멤버 카드 재생성)
                 // Member(String name, String rolesStr)
-                project.addMember(new Member(name, ""));
+                Member added = new Member(name, "");
+                project.addMember(added);
 
                 // 선택은 새 멤버로
-                selectedMember = findMemberByName(name);
-
-                // 멤버 카드 재생성
-                rebuildMemberCards();
-                refreshTeamOverlay();
+                selectMember(added);
                 onDataChanged();
             });
             add(teamAddMemberBtn);
@@ -491,13 +595,6 @@ public class ProjectFrame extends JFrame implements DataChangeListener {
             setTeamOverlayVisible(false);
         }
 
-        private Member findMemberByName(String name) {
-            for (Member m : project.getMembers()) {
-                if (m.getName() != null && m.getName().equals(name)) return m;
-            }
-            return null;
-        }
-
         private void rebuildTeamRoleButtons() {
             // 기존 버튼 제거
             for (JButton b : teamRoleButtons) remove(b);
@@ -547,33 +644,8 @@ public class ProjectFrame extends JFrame implements DataChangeListener {
 
                 suppressAlertOnce();
 
+                // roleAdded 이벤트에서 버튼 생성(appendRoleButton)
                 project.addRole(role);
-
-                // 새 역할 버튼은 '추가 버튼'이 있던 자리에 생성
-                Rectangle r = teamAddRoleBtn.getBounds();
-                final String roleName = role; // ✅ effectively final
-
-                JButton roleBtn = makeImageTextButton(
-                        (teamRoleBgScaled != null) ? new ImageIcon(teamRoleBgScaled) : null,
-                        roleName,
-                        18,
-                        new Color(30, 30, 30)
-                );
-                roleBtn.setBounds(r);
-                roleBtn.addActionListener(ev -> assignRoleToSelected(roleName));
-
-                add(roleBtn);
-                teamRoleButtons.add(roleBtn);
-
-                // ✅ 요구사항: addRole 버튼은 원래 위치에서 x + 118 이동
-                teamAddRoleBtn.setBounds(
-                        r.x + S(118),
-                        r.y,
-                        r.width,
-                        r.height
-                );
-
-                refreshTeamOverlay();
                 onDataChanged();
             });
             add(teamAddRoleBtn);
@@ -583,6 +655,39 @@ public class ProjectFrame extends JFrame implements DataChangeListener {
             teamAddRoleBtn.setVisible(false);
         }
 
+        // 새 역할 버튼은 '추가 버튼'이 있던 자리에 생성
+        private void appendRoleButton(String roleName) {
+            if (teamAddRoleBtn == null) return;
+            Rectangle r = teamAddRoleBtn.getBounds();
+
+            JButton roleBtn = makeImageTextButton(
+                    (teamRoleBgScaled != null) ? new ImageIcon(teamRoleBgScaled) : null,
+                    roleName,
+                    18,
+                    new Color(30, 30, 30)
+            );
+            roleBtn.setBounds(r);
+            roleBtn.addActionListener(ev -> assignRoleToSelected(roleName));
+            roleBtn.setVisible(view == View.TEAM);
+
+            add(roleBtn);
+            teamRoleButtons.add(roleBtn);
+
+            // ✅ 요구사항: addRole 버튼은 원래 위치에서 x + 118 이동
+            teamAddRoleBtn.setBounds(
+                    r.x + S(118),
+                    r.y,
+                    r.width,
+                    r.height
+            );
+            repaint();
+        }
+
+        private void selectMember(Member m) {
+            selectedMember = m;
+            for (MemberCard c : memberCards) c.setSelected(c.member == m);
+        }
+
         private void assignRoleToSelected(String roleName) {
             if (selectedMember == null) {
                 JOptionPane.showMessageDialog(ProjectFrame.this, "멤버를 먼저 선택하세요.");
@@ -597,10 +702,9 @@ public class ProjectFrame extends JFrame implements DataChangeListener {
             if (!roles.contains(roleName)) {
                 roles.remove("미정");
                 roles.add(roleName);
-                selectedMember.setRoles(roles);
+                selectedMember.setRoles(roles); // memberChanged 이벤트로 배지 갱신
             }
 
-            refreshTeamOverlay();
             onDataChanged();
         }
 
@@ -617,8 +721,13 @@ public class ProjectFrame extends JFrame implements DataChangeListener {
                 add(card);
             }
 
-            // 기본 숨김
-            for (MemberCard c : memberCards) c.setVisible(false);
+            // TEAM 화면일 때만 보이기
+            boolean on = (view == View.TEAM);
+            for (MemberCard c : memberCards) {
+                c.setVisible(on);
+                c.setSelected(c.member == selectedMember);
+            }
+            repaint();
         }
 
         private void setTeamOverlayVisible(boolean on) {
@@ -641,9 +750,103 @@ public class ProjectFrame extends JFrame implements DataChangeListener {
             }
         }
 
-        // ✅ PLAN(업무 등록) 화면 갱신
-        void refreshPlanUI() {
-            planPanel.refreshFromProject();
+        // ===== 화면별 지연 갱신 =====
+        // 지금 보이는 화면만 (프레임 단위로 묶어서) 갱신하고,
+        // 나머지는 dirty 표시만 해뒀다가 setView로 보일 때 갱신
+        private void invalidateView(View v) {
+            if (v == view) {
+                refresher.request(v, () -> {
+                    if (view == v) refreshView(v);
+                    else dirtyViews.add(v);
+                });
+            } else {
+                dirtyViews.add(v);
+            }
+        }
+
+        private void refreshView(View v) {
+            dirtyViews.remove(v);
+            switch (v) {
+                case DASHBOARD:
+                    refreshDashboardOverlay();
+                    break;
+                case TEAM:
+                    refreshTeamOverlay();
+                    break;
+                case PLAN:
+                    planPanel.table.repaint(); // 표는 taskGrid가 이벤트로 직접 반영
+                    break;
+                case JOB:
+                    boardPanel.repaint(); // 보드는 BoardPanel이 이벤트로 직접 반영
+                    break;
+                case GANTT:
+                    ganttPanel.refresh();
+                    break;
+            }
+        }
+
+        // ===== Project 변경 이벤트(오버레이/간트, PLAN 표는 taskGrid가 직접) =====
+        @Override
+        public void taskAdded(Task t) {
+            invalidateView(View.DASHBOARD);
+            invalidateView(View.GANTT);
+        }
+
+        @Override
+        public void taskRemoved(Task t, int index) {
+            invalidateView(View.DASHBOARD);
+            invalidateView(View.GANTT);
+        }
+
+        @Override
+        public void progressChanged(Task t) {
+            invalidateView(View.DASHBOARD);
+        }
+
+        @Override
+        public void statusChanged(Task t, TaskStatus oldStatus) {
+            invalidateView(View.DASHBOARD);
+        }
+
+        @Override
+        public void taskDatesChanged(Task t) {
+            invalidateView(View.GANTT);
+        }
+
+        @Override
+        public void memberAdded(Member m) {
+            rebuildMemberCards();
+            planPanel.refreshAssignees();
+        }
+
+        @Override
+        public void memberRemoved(Member m, int index) {
+            if (selectedMember == m) selectedMember = null;
+            rebuildMemberCards();
+            planPanel.refreshAssignees();
+        }
+
+        @Override
+        public void memberChanged(Member m) {
+            if (view != View.TEAM) {
+                dirtyViews.add(View.TEAM);
+            } else {
+                for (MemberCard c : memberCards) {
+                    if (c.member == m) c.refreshBadges();
+                }
+            }
+            invalidateView(View.GANTT); // 간트 왼쪽 라벨(담당자)
+        }
+
+        @Override
+        public void roleAdded(String role) {
+            appendRoleButton(role);
+            planPanel.refreshCategories();
+        }
+
+        @Override
+        public void simDateChanged(LocalDate simDate) {
+            invalidateView(View.DASHBOARD);
         }
 
         // ===== 멤버 카드 컴포넌트 =====
@@ -798,54 +1001,38 @@ public class ProjectFrame extends JFrame implements DataChangeListener {
             projectNameLabel.setText(project.getProjectName());
             projectDateLabel.setText(project.getProjectStart() + " ~ " + project.getProjectEnd());
 
-            int total = project.getTasks().size();
-            int done = 0, doing = 0, blocked = 0;
-
-            for (Task t : project.getTasks()) {
-                if (t.getStatus() == TaskStatus.DONE) done++;
-                else if (t.getStatus() == TaskStatus.IN_PROGRESS) doing++;
-                else if (t.getStatus() == TaskStatus.BLOCKED) blocked++;
-            }
+            // ✅ 상태별 개수는 Project 누적 카운터에서 바로 읽기(전체 스캔 X)
+            int total = project.getTaskCount();
+            int done = project.getStatusCount(TaskStatus.DONE);
+            int doing = project.getStatusCount(TaskStatus.IN_PROGRESS);
+            int blocked = project.getStatusCount(TaskStatus.BLOCKED);
 
             totalTasksLabel.setText(String.valueOf(total));
             doingTasksLabel.setText(String.valueOf(doing));
             doneTasksLabel.setText(String.valueOf(done));
             blockedTasksLabel.setText(String.valueOf(blocked));
 
-            List<String> lines = buildUrgentLines();
-            for (int i = 0; i < urgentLabels.length; i++) {
-                if (i < lines.size()) urgentLabels[i].setText(lines.get(i));
-                else urgentLabels[i].setText("");
-            }
-
             setDashboardOverlayVisible(view == View.DASHBOARD);
+
+            // ✅ 긴급 알림 줄은 집계가 필요해서 백그라운드로(끝나면 채움)
+            overlayAnalysis.request(stats -> {
+                List<String> lines = buildUrgentLines(stats);
+                for (int i = 0; i < urgentLabels.length; i++) {
+                    if (i < lines.size()) urgentLabels[i].setText(lines.get(i));
+                    else urgentLabels[i].setText("");
+                }
+                setDashboardOverlayVisible(view == View.DASHBOARD);
+            });
         }
 
-        private List<String> buildUrgentLines() {
+        private List<String> buildUrgentLines(ProjectStats stats) {
             List<String> lines = new ArrayList<>();
 
-            LocalDate sim = project.getSimDate();
-            int dueSoon = 0;
-            int zeroProgressDueSoon = 0;
-            int blocked = 0;
-            int delayed = 0;
-
-            for (Task t : project.getTasks()) {
-                if (t.getStatus() == TaskStatus.BLOCKED) blocked++;
-
-                if (t.getPlanEnd() != null && t.getStatus() != TaskStatus.DONE) {
-                    long daysLeft = java.time.temporal.ChronoUnit.DAYS.between(sim, t.getPlanEnd());
-                    if (daysLeft <= 3) {
-                        dueSoon++;
-                        if (t.getProgress() == 0) zeroProgressDueSoon++;
-                    }
-                }
-
-                if (t.getStatus() != TaskStatus.DONE) {
-                    int delta = t.getScheduleDelta(sim);
-                    if (delta < 0) delayed++;
-                }
-            }
+            // ✅ 마감 임박/0%/지연/BLOCKED 수는 한 번 훑은 집계에서(대시보드 표와 같은 기준)
+            int dueSoon = stats.getDueSoonCount();
+            int zeroProgressDueSoon = stats.getDueSoonZeroProgressCount();
+            int delayed = stats.getDelayedCount();
+            int blocked = stats.getStatusCount(TaskStatus.BLOCKED);     // 같은 복사본 기준으로 맞춤
 
             if (zeroProgressDueSoon > 0) lines.add("• 마감 임박인데 0% 업무 " + zeroProgressDueSoon + "개");
             else if (dueSoon > 0) lines.add("• 마감 3일 이내 미완료 업무 " + dueSoon + "개");
@@ -882,8 +1069,13 @@ public class ProjectFrame extends JFrame implements DataChangeListener {
             private final JTextField planEndField = new JTextField();
             private final JButton addBtn = new JButton("업무 등록");
 
-            private final TaskTableModel tableModel = new TaskTableModel();
-            private final JTable table = new JTable(tableModel);
+            // ✅ 표 모델은 PLAN 화면 전용 taskGrid(정렬/거르기 포함)
+            private final JTable table = new JTable(taskGrid);
+
+            // 표 거르기(맨 앞 "전체")
+            private final JComboBox<Object> filterAssigneeCombo = new JComboBox<>();
+            private final JComboBox<String> filterCategoryCombo = new JComboBox<>();
+            private boolean fillingFilters = false;
 
             PlanRegisterPanel() {
                 setLayout(new BorderLayout(12, 12));
@@ -970,8 +1162,24 @@ public class ProjectFrame extends JFrame implements DataChangeListener {
                 // ===== 표 =====
                 table.setRowHeight(Math.max(22, S(26)));
                 table.setFillsViewportHeight(true);
+                taskGrid.installHeaderSort(table);
                 JScrollPane sp = new JScrollPane(table);
-                add(sp, BorderLayout.CENTER);
+
+                JPanel filterBar = new JPanel(new FlowLayout(FlowLayout.LEFT));
+                filterBar.setOpaque(false);
+                filterBar.add(new JLabel("담당자:"));
+                filterBar.add(filterAssigneeCombo);
+                filterBar.add(new JLabel("카테고리:"));
+                filterBar.add(filterCategoryCombo);
+                filterBar.add(new JLabel("(머리글 클릭: 담당자/카테고리/계획 마감/진행률 정렬)"));
+                filterAssigneeCombo.addActionListener(e -> applyFilter());
+                filterCategoryCombo.addActionListener(e -> applyFilter());
+
+                JPanel tablePanel = new JPanel(new BorderLayout());
+                tablePanel.setOpaque(false);
+                tablePanel.add(filterBar, BorderLayout.NORTH);
+                tablePanel.add(sp, BorderLayout.CENTER);
+                add(tablePanel, BorderLayout.CENTER);
 
                 // 콤보 렌더러(멤버 이름만 보이게)
                 assigneeCombo.setRenderer(new DefaultListCellRenderer() {
@@ -1035,7 +1243,7 @@ public class ProjectFrame extends JFrame implements DataChangeListener {
                 // 입력 초기화(업무명만)
                 titleField.setText("");
 
-                // 전체 갱신
+                // 표/보드 등은 taskAdded 이벤트로 반영, 여기선 경고만 확인
                 ProjectFrame.this.onDataChanged();
             }
 
@@ -1050,17 +1258,25 @@ public class ProjectFrame extends JFrame implements DataChangeListener {
             }
 
             void refreshFromProject() {
-                // 멤버 콤보 갱신
+                refreshAssignees();
+                refreshCategories();
+            }
+
+            private void applyFilter() {
+                if (fillingFilters) return;
+                Object a = filterAssigneeCombo.getSelectedItem();
+                Object c = filterCategoryCombo.getSelectedIndex() > 0 ? filterCategoryCombo.getSelectedItem() : null;
+                taskGrid.setFilter((a instanceof Member m) ? m : null, (String) c);
+            }
+
+            // 멤버 콤보 갱신
+            void refreshAssignees() {
+                // 비어있으면 기본 담당자 하나라도 넣기(memberAdded 이벤트로 재호출되므로 먼저 보장)
+                if (project.getMembers().isEmpty()) ensureDefaultAssignee();
+
                 Member selected = (Member) assigneeCombo.getSelectedItem();
                 assigneeCombo.removeAllItems();
-
-                if (project.getMembers().isEmpty()) {
-                    // 비어있으면 기본 담당자 하나라도 넣기
-                    Member m = ensureDefaultAssignee();
-                    assigneeCombo.addItem(m);
-                } else {
-                    for (Member m : project.getMembers()) assigneeCombo.addItem(m);
-                }
+                for (Member m : project.getMembers()) assigneeCombo.addItem(m);
 
                 if (selected != null) {
                     // 동일 이름의 멤버가 있으면 재선택
@@ -1068,7 +1284,17 @@ public class ProjectFrame extends JFrame implements DataChangeListener {
                     if (re != null) assigneeCombo.setSelectedItem(re);
                 }
 
-                // 카테고리 콤보 갱신(roles)
+                // 거르기 콤보(선택 유지, 채우는 동안은 거르기 안 바꿈)
+                fillingFilters = true;
+                filterAssigneeCombo.removeAllItems();
+                filterAssigneeCombo.addItem("전체");
+                for (Member m : project.getMembers()) filterAssigneeCombo.addItem(m);
+                if (taskGrid.getAssigneeFilter() != null) filterAssigneeCombo.setSelectedItem(taskGrid.getAssigneeFilter());
+                fillingFilters = false;
+            }
+
+            // 카테고리 콤보 갱신(roles)
+            void refreshCategories() {
                 Object selCat = categoryCombo.getSelectedItem();
                 categoryCombo.removeAllItems();
                 if (project.getRoles().isEmpty()) {
@@ -1078,85 +1304,12 @@ public class ProjectFrame extends JFrame implements DataChangeListener {
                 }
                 if (selCat != null) categoryCombo.setSelectedItem(selCat);
 
-                // 표 갱신
-                tableModel.reload();
-            }
-
-            // ===== 표 모델(TeamPanel 로직 이식) =====
-            private class TaskTableModel extends javax.swing.table.AbstractTableModel {
-
-                private final String[] cols = {
-                        "담당자", "카테고리", "업무", "난이도",
-                        "계획 시작", "계획 마감", "실제 시작", "실제 마감", "진행률"
-                };
-
-                @Override
-                public int getRowCount() {
-                    return project.getTasks().size();
-                }
-
-                @Override
-                public int getColumnCount() {
-                    return cols.length;
-                }
-
-                @Override
-                public String getColumnName(int column) {
-                    return cols[column];
-                }
-
-                @Override
-                public Object getValueAt(int rowIndex, int columnIndex) {
-                    Task t = project.getTasks().get(rowIndex);
-                    return switch (columnIndex) {
-                        case 0 -> (t.getAssignee() != null ? t.getAssignee().getName() : "");
-                        case 1 -> t.getCategory();
-                        case 2 -> t.getTitle();
-                        case 3 -> t.getDifficulty();
-                        case 4 -> t.getPlanStart();
-                        case 5 -> t.getPlanEnd();
-                        case 6 -> t.getActualStart();
-                        case 7 -> t.getActualEnd();
-                        case 8 -> t.getProgress();
-                        default -> "";
-                    };
-                }
-
-                @Override
-                public boolean isCellEditable(int rowIndex, int columnIndex) {
-                    // 실제 시작/마감/진행률만 수정 가능
-                    return columnIndex == 6 || columnIndex == 7 || columnIndex == 8;
-                }
-
-                @Override
-                public void setValueAt(Object aValue, int rowIndex, int columnIndex) {
-                    Task t = project.getTasks().get(rowIndex);
-                    try {
-                        if (columnIndex == 6) {
-                            t.setActualStart(parseOrNull(aValue));
-                        } else if (columnIndex == 7) {
-                            t.setActualEnd(parseOrNull(aValue));
-                        } else if (columnIndex == 8) {
-                            int p = Integer.parseInt(String.valueOf(aValue));
-                            t.updateProgress(p);
-                        }
-                        ProjectFrame.this.onDataChanged();
-                    } catch (Exception ex) {
-                        JOptionPane.showMessageDialog(ProjectFrame.this, "입력 형식 오류!\n날짜: YYYY-MM-DD\n진행률: 0~100");
-                        fireTableRowsUpdated(rowIndex, rowIndex);
-                    }
-                }
-
-                private LocalDate parseOrNull(Object v) {
-                    if (v == null) return null;
-                    String s = String.valueOf(v).trim();
-                    if (s.isEmpty()) return null;
-                    return LocalDate.parse(s);
-                }
-
-                void reload() {
-                    fireTableDataChanged();
-                }
+                fillingFilters = true;
+                filterCategoryCombo.removeAllItems();
+                filterCategoryCombo.addItem("전체");
+                for (String r : project.getRoles()) filterCategoryCombo.addItem(r);
+                if (taskGrid.getCategoryFilter() != null) filterCategoryCombo.setSelectedItem(taskGrid.getCategoryFilter());
+                fillingFilters = false;
             }
         }
 
@@ -1195,6 +1348,9 @@ public class ProjectFrame extends JFrame implements DataChangeListener {
                     break;
             }
 
+            // ✅ 미뤄둔 갱신은 화면이 보일 때 한 번만
+            if (dirtyViews.contains(v)) refreshView(v);
+
             repaint();
         }
 
@@ -1207,10 +1363,8 @@ public class ProjectFrame extends JFrame implements DataChangeListener {
         }
 
         private void setButtonIcon(JButton btn, ImageIcon icon) {
-            if (icon != null) {
-                btn.setIcon(icon);
-                btn.setText(null);
-            }
+            btn.setIcon(icon);      // null = 파일 없음(자리 아이콘도 지움)
+            if (icon != null) btn.setText(null);
         }
 
         @Override
@@ -1224,6 +1378,9 @@ public class ProjectFrame extends JFrame implements DataChangeListener {
 
             if (bg != null) {
                 g.drawImage(bg, 0, 0, null); // ✅ 1:1
+            } else if (!bgDashReady) {
+                g.setColor(ImageAssets.PLACEHOLDER);
+                g.fillRect(0, 0, getWidth(), getHeight());
             } else {
                 g.setColor(Color.LIGHT_GRAY);
                 g.fillRect(0, 0, getWidth(), getHeight());
@@ -1255,99 +1412,4 @@ public class ProjectFrame extends JFrame implements DataChangeListener {
         b.setVerticalTextPosition(SwingConstants.CENTER);
         return b;
     }
-
-    // ===== 이미지 로더(BufferedImage) =====
-    private BufferedImage loadImage(String fileName) {
-        if (fileName == null) return null;
-
-        // 1) classpath에서 찾기
-        String[] candidates = new String[] {
-                "/" + fileName,
-                "/img/" + fileName,
-                "/images/" + fileName,
-                "/assets/" + fileName,
-                "/ui/img/" + fileName
-        };
-
-        for (String c : candidates) {
-            try {
-                URL url = ProjectFrame.class.getResource(c);
-                if (url != null) {
-                    BufferedImage img = ImageIO.read(url);
-                    return toCompatible(img);
-                }
-            } catch (Exception ignore) {}
-        }
-
-        // 2) 실행 경로 기준 파일로 찾기
-        String[] fileCandidates = new String[] {
-                fileName,
-                "assets/" + fileName,
-                "img/" + fileName,
-                "images/" + fileName
-        };
-
-        for (String p : fileCandidates) {
-            try {
-                File f = new File(p);
-                if (f.exists()) {
-                    BufferedImage img = ImageIO.read(f);
-                    return toCompatible(img);
-                }
-            } catch (Exception ignore) {}
-        }
-
-        return null;
-    }
-
-    private BufferedImage toCompatible(BufferedImage src) {
-        if (src == null) return null;
-        int type = src.getColorModel().hasAlpha() ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
-        if (src.getType() == type) return src;
-        BufferedImage dst = new BufferedImage(src.getWidth(), src.getHeight(), type);
-        Graphics2D g2 = dst.createGraphics();
-        g2.drawImage(src, 0, 0, null);
-        g2.dispose();
-        return dst;
-    }
-
-    // ===== 고퀄 스케일링(멀티스텝) =====
-    private BufferedImage scaleImageHQ(BufferedImage src, int targetW, int targetH) {
-        if (src == null) return null;
-        if (targetW <= 0 || targetH <= 0) return src;
-        if (src.getWidth() == targetW && src.getHeight() == targetH) return src;
-
-        BufferedImage img = src;
-
-        // 다운스케일일 때는 멀티스텝(반씩 줄이기)로 선명도 유지
-        if (targetW < img.getWidth() && targetH < img.getHeight()) {
-            int w = img.getWidth();
-            int h = img.getHeight();
-            while (w / 2 >= targetW && h / 2 >= targetH) {
-                w /= 2;
-                h /= 2;
-                img = scaleOnce(img, w, h);
-            }
-        }
-
-        return scaleOnce(img, targetW, targetH);
-    }
-
-    private BufferedImage scaleOnce(BufferedImage src, int w, int h) {
-        BufferedImage dst = new BufferedImage(w, h, BufferedImage.TYPE_INT_ARGB);
-        Graphics2D g2 = dst.createGraphics();
-        g2.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
-        g2.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
-        g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-        g2.drawImage(src, 0, 0, w, h, null);
-        g2.dispose();
-        return dst;
-    }
-
-    private ImageIcon loadScaledIcon(String fileName, int w, int h) {
-        BufferedImage raw = loadImage(fileName);
-        if (raw == null) return null;
-        BufferedImage scaled = scaleImageHQ(raw, w, h);
-        return new ImageIcon(scaled);
-    }
 }
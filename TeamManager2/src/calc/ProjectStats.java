@@ -0,0 +1,364 @@
+package calc;
+
+import data.Member;
+import data.Project;
+import data.ProjectSnapshot;
+import data.ProjectSummary;
+import data.Task;
+import data.TaskColumns;
+import data.TaskStatus;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BooleanSupplier;
+
+/**
+ * 프로젝트 분석 결과 한 묶음(열 배열을 한 번만 훑어서 전부 계산)
+ *
+ * ✅ 대시보드/경고/접속 요약/팀원 보고서가 각자 전체 업무를 여러 번 돌던 것을
+ *    한 번의 반복문으로 합침 → 화면 한 번 갱신 = 업무 수만큼 한 바퀴
+ *    - 팀 전체/팀원별 계획 대비 델타, 팀원별 업무 수·완료·마감 지남·마감 임박
+ *    - 카테고리별 평균 진행률
+ *    - 경고 후보(목록에서 첫 번째), 마감 임박 업무 목록, 지연 업무 수
+ *
+ * 계산은 Accumulator가 행 구간 단위로 하고, 구간 결과끼리 merge 가능(앞 구간 + 뒤 구간)
+ * → 업무가 많으면 RangeTask로 구간을 나눠 ForkJoinPool에서 병렬
+ */
+public final class ProjectStats {
+
+    public static final int DUE_SOON_DAYS = ProjectSummary.DUE_SOON_DAYS;     // 마감 임박 기준
+    static final int ALERT_ZERO_DAYS = 1;          // "마감 임박인데 0%" 경고 기준
+    static final int ALERT_LATE_DELTA = -25;       // "많이 늦음" 경고 기준(%)
+
+    static final int PARALLEL_THRESHOLD = 1 << 16; // 이보다 적으면 그냥 한 스레드로
+    static final int LEAF_ROWS = 1 << 14;          // 병렬일 때 한 조각 크기
+
+    private static final BooleanSupplier NEVER = () -> false;
+
+    private final TaskColumns columns;
+    private final List<Task> tasks;
+    private final LocalDate simDate;
+    private final Accumulator acc;
+    private final List<Task> dueSoonTasks;
+
+    private ProjectStats(TaskColumns columns, List<Task> tasks, LocalDate simDate, Accumulator acc) {
+        this.columns = columns;
+        this.tasks = tasks;
+        this.simDate = simDate;
+        this.acc = acc;
+
+        // 마감 임박 업무: 업무 목록 순(전에 목록을 훑으며 보여주던 순서 그대로)
+        List<Task> due = new ArrayList<Task>(acc.dueSoonSize);
+        for (int k = 0; k < acc.dueSoonSize; k++) due.add(tasks.get(acc.dueSoonRows[k]));
+        this.dueSoonTasks = due;
+    }
+
+    // EDT에서 지금 값으로 바로
+    public static ProjectStats of(Project project) {
+        return compute(project.getColumns(), project.getTasks(), project.getSimDate(), NEVER);
+    }
+
+    // 찍어둔 복사본으로(아무 스레드에서나)
+    public static ProjectStats of(ProjectSnapshot snapshot) {
+        return of(snapshot, NEVER);
+    }
+
+    // 위와 같은데 중간에 그만둘 수 있음: 열 조각(CHUNK_SIZE행)마다 cancelled를 보고 true면 CancellationException
+    public static ProjectStats of(ProjectSnapshot snapshot, BooleanSupplier cancelled) {
+        return compute(snapshot.getColumns(), snapshot.getTasks(), snapshot.getSimDate(), cancelled);
+    }
+
+    private static ProjectStats compute(TaskColumns c, List<Task> tasks, LocalDate simDate, BooleanSupplier cancelled) {
+        int sim = Task.toDay(simDate);
+        int n = c.size();
+
+        Accumulator acc;
+        if (n < PARALLEL_THRESHOLD || ForkJoinPool.getCommonPoolParallelism() < 2) {
+            acc = new Accumulator(c, sim, cancelled);
+            acc.accumulate(0, n);
+        } else {
+            // ✅ 업무가 많으면 행 구간을 나눠 여러 코어에서(결과는 순차 계산과 똑같음)
+            acc = ForkJoinPool.commonPool().invoke(new RangeTask(c, sim, cancelled, 0, n));
+        }
+        return new ProjectStats(c, tasks, simDate, acc);
+    }
+
+    // ===================== 팀 전체 =====================
+
+    public LocalDate getSimDate() { return simDate; }
+
+    public int getTaskCount() { return acc.taskCount; }
+
+    public int getStatusCount(TaskStatus st) { return acc.statusCounts[st.ordinal()]; }
+
+    // 계획 대비 평균 델타(음수면 늦음), 시작 전 업무는 제외
+    public int getScheduleDelta() { return avg(acc.deltaSum, acc.startedCount); }
+
+    public int getDueSoonCount() { return acc.dueSoonSize; }
+    public int getDueSoonZeroProgressCount() { return acc.dueSoonZeroProgress; }
+    public int getDelayedCount() { return acc.delayedCount; }
+
+    // 마감 임박(미완료) 업무, 마감일 순
+    public List<Task> getDueSoonTasks() { return dueSoonTasks; }
+
+    // 경고 후보(목록에서 가장 앞에 있는 것, 없으면 null)
+    public Task getZeroProgressAlert() { return taskAt(acc.zeroProgressAlertRow); }
+    public Task getLateAlert() { return taskAt(acc.lateAlertRow); }
+
+    // 위 업무의 계획 대비 델타(집계한 시점 값)
+    public int getLateAlertDelta() {
+        int row = acc.lateAlertRow;
+        if (row < 0) return 0;
+        int ch = row >> TaskColumns.CHUNK_BITS;
+        int o = row & TaskColumns.CHUNK_MASK;
+        return columns.progress()[ch][o]
+                - Task.expectedProgress(columns.planStart()[ch][o], columns.planEnd()[ch][o], Task.toDay(simDate));
+    }
+
+    // ===================== 팀원별 =====================
+
+    public int getMemberTaskCount(Member m) { return at(acc.memberTasks, m); }
+    public int getMemberDoneCount(Member m) { return at(acc.memberDone, m); }
+    public int getMemberOverdueCount(Member m) { return at(acc.memberOverdue, m); }
+    public int getMemberDueSoonCount(Member m) { return at(acc.memberDueSoon, m); }
+
+    public int getMemberScheduleDelta(Member m) {
+        int id = columns.memberId(m);
+        if (id < 0 || id >= acc.memberStarted.length) return 0;
+        return avg(acc.memberDeltaSum[id], acc.memberStarted[id]);
+    }
+
+    // ===================== 카테고리별 =====================
+
+    // 업무가 있는 카테고리(처음 나온 순서)
+    public List<String> getCategories() {
+        List<String> result = new ArrayList<String>();
+        for (int c = 0; c < acc.categoryCount.length; c++) {
+            if (acc.categoryCount[c] > 0) result.add(columns.category(c));
+        }
+        return result;
+    }
+
+    public int getCategoryAverage(String category) {
+        int id = columns.categoryId(category);
+        if (id < 0 || id >= acc.categoryCount.length) return 0;
+        return avg(acc.categoryProgress[id], acc.categoryCount[id]);
+    }
+
+    // ===================== 내부 =====================
+
+    private Task taskAt(int row) {
+        return (row < 0) ? null : tasks.get(row);
+    }
+
+    private int at(int[] arr, Member m) {
+        int id = columns.memberId(m);
+        return (id < 0 || id >= arr.length) ? 0 : arr[id];
+    }
+
+    private static int avg(long sum, int cnt) {
+        return (cnt == 0) ? 0 : Math.round((float) sum / cnt);
+    }
+
+    /**
+     * 행 구간 [from, to) 집계
+     * merge(뒤 구간)로 합칠 수 있음 → 경고 후보는 앞 구간 것이 우선(목록에서 첫 번째 유지)
+     */
+    static final class Accumulator {
+        private final TaskColumns c;
+        private final int sim;
+        private final BooleanSupplier cancelled;
+
+        int taskCount;
+        final int[] statusCounts = new int[TaskStatus.values().length];
+        int startedCount;
+        long deltaSum;
+
+        final int[] memberTasks, memberDone, memberStarted, memberOverdue, memberDueSoon;
+        final long[] memberDeltaSum;
+
+        final long[] categoryProgress;
+        final int[] categoryCount;
+
+        int zeroProgressAlertRow = -1;
+        int lateAlertRow = -1;
+
+        int[] dueSoonRows = new int[16];
+        int dueSoonSize;
+        int dueSoonZeroProgress;
+        int delayedCount;
+
+        Accumulator(TaskColumns c, int sim, BooleanSupplier cancelled) {
+            this.c = c;
+            this.sim = sim;
+            this.cancelled = cancelled;
+            int members = c.memberIdCount();
+            memberTasks = new int[members];
+            memberDone = new int[members];
+            memberStarted = new int[members];
+            memberOverdue = new int[members];
+            memberDueSoon = new int[members];
+            memberDeltaSum = new long[members];
+            int cats = c.categoryIdCount();
+            categoryProgress = new long[cats];
+            categoryCount = new int[cats];
+        }
+
+        void accumulate(int from, int to) {
+            // 조각 단위로 끊어서(조각 안에서는 평범한 배열 반복문)
+            int i = from;
+            while (i < to) {
+                if (cancelled.getAsBoolean()) throw new CancellationException();
+                int ch = i >> TaskColumns.CHUNK_BITS;
+                int lo = i & TaskColumns.CHUNK_MASK;
+                int hi = Math.min(TaskColumns.CHUNK_SIZE, lo + (to - i));
+                accumulateChunk(ch, lo, hi);
+                i += hi - lo;
+            }
+        }
+
+        private void accumulateChunk(int ch, int lo, int hi) {
+            int[] progress = c.progress()[ch];
+            int[] planStart = c.planStart()[ch];
+            int[] planEnd = c.planEnd()[ch];
+            byte[] status = c.status()[ch];
+            int[] assignee = c.assignee()[ch];
+            int[] category = c.category()[ch];
+            final int done = TaskStatus.DONE.ordinal();
+            final int base = ch << TaskColumns.CHUNK_BITS;
+
+            for (int j = lo; j < hi; j++) {
+                int i = base + j;
+                int p = progress[j];
+                int ps = planStart[j];
+                int pe = planEnd[j];
+                int st = status[j];
+                int a = assignee[j];
+                int cat = category[j];
+
+                taskCount++;
+                statusCounts[st]++;
+
+                boolean started = !(ps != Task.NO_DATE && sim < ps);
+                int delta = p - Task.expectedProgress(ps, pe, sim);
+                if (started) {
+                    startedCount++;
+                    deltaSum += delta;
+                }
+
+                if (cat >= 0) {
+                    categoryProgress[cat] += p;
+                    categoryCount[cat]++;
+                }
+
+                if (a >= 0) {
+                    memberTasks[a]++;
+                    if (st == done) memberDone[a]++;
+                    if (started) {
+                        memberStarted[a]++;
+                        memberDeltaSum[a] += delta;
+                    }
+                }
+
+                if (st == done) continue;
+
+                // ===== 미완료 업무만 =====
+                if (delta < 0) delayedCount++;
+                if (pe == Task.NO_DATE) continue;
+
+                long daysLeft = (long) pe - sim;
+                if (a >= 0 && daysLeft < 0) memberOverdue[a]++;
+
+                if (daysLeft <= DUE_SOON_DAYS) {
+                    addDueSoon(i);
+                    if (p == 0) dueSoonZeroProgress++;
+                    if (a >= 0) memberDueSoon[a]++;
+                    if (delta <= ALERT_LATE_DELTA && lateAlertRow < 0) lateAlertRow = i;
+                }
+                if (daysLeft <= ALERT_ZERO_DAYS && p == 0 && zeroProgressAlertRow < 0) zeroProgressAlertRow = i;
+            }
+        }
+
+        // other = 바로 뒤 행 구간의 결과
+        void merge(Accumulator other) {
+            taskCount += other.taskCount;
+            for (int k = 0; k < statusCounts.length; k++) statusCounts[k] += other.statusCounts[k];
+            startedCount += other.startedCount;
+            deltaSum += other.deltaSum;
+
+            for (int k = 0; k < memberTasks.length; k++) {
+                memberTasks[k] += other.memberTasks[k];
+                memberDone[k] += other.memberDone[k];
+                memberStarted[k] += other.memberStarted[k];
+                memberOverdue[k] += other.memberOverdue[k];
+                memberDueSoon[k] += other.memberDueSoon[k];
+                memberDeltaSum[k] += other.memberDeltaSum[k];
+            }
+            for (int k = 0; k < categoryCount.length; k++) {
+                categoryProgress[k] += other.categoryProgress[k];
+                categoryCount[k] += other.categoryCount[k];
+            }
+
+            if (zeroProgressAlertRow < 0) zeroProgressAlertRow = other.zeroProgressAlertRow;
+            if (lateAlertRow < 0) lateAlertRow = other.lateAlertRow;
+
+            if (dueSoonSize + other.dueSoonSize > dueSoonRows.length) {
+                dueSoonRows = Arrays.copyOf(dueSoonRows, dueSoonSize + other.dueSoonSize);
+            }
+            System.arraycopy(other.dueSoonRows, 0, dueSoonRows, dueSoonSize, other.dueSoonSize);
+            dueSoonSize += other.dueSoonSize;
+            dueSoonZeroProgress += other.dueSoonZeroProgress;
+            delayedCount += other.delayedCount;
+        }
+
+        private void addDueSoon(int row) {
+            if (dueSoonSize == dueSoonRows.length) dueSoonRows = Arrays.copyOf(dueSoonRows, dueSoonSize * 2);
+            dueSoonRows[dueSoonSize++] = row;
+        }
+    }
+
+    /**
+     * 행 구간 [from, to)를 반으로 나눠 fork/join
+     * 왼쪽(앞 구간) 결과에 오른쪽을 merge → 합계는 그대로, 경고 후보/마감 임박 순서도 순차와 같음
+     * (계산하는 동안 열 배열이 안 바뀌어야 함: 호출한 스레드가 결과를 기다리는 동안만 읽음)
+     */
+    static final class RangeTask extends RecursiveTask<Accumulator> {
+        private static final long serialVersionUID = 1L;
+
+        private final TaskColumns c;
+        private final int sim;
+        private final BooleanSupplier cancelled;
+        private final int from, to;
+
+        RangeTask(TaskColumns c, int sim, BooleanSupplier cancelled, int from, int to) {
+            this.c = c;
+            this.sim = sim;
+            this.cancelled = cancelled;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Accumulator compute() {
+            if (to - from <= LEAF_ROWS) {
+                Accumulator acc = new Accumulator(c, sim, cancelled);
+                acc.accumulate(from, to);
+                return acc;
+            }
+            int mid = (from + to) >>> 1;
+            int aligned = mid & ~TaskColumns.CHUNK_MASK;   // 가능하면 조각 경계에서 자르기
+            if (aligned > from) mid = aligned;
+            RangeTask left = new RangeTask(c, sim, cancelled, from, mid);
+            left.fork();
+            Accumulator right = new RangeTask(c, sim, cancelled, mid, to).compute();
+            Accumulator acc = left.join();
+            acc.merge(right);
+            return acc;
+        }
+    }
+}
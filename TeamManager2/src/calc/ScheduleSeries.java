@@ -0,0 +1,205 @@
+package calc;
+
+import data.Member;
+import data.Project;
+import data.ProjectSnapshot;
+import data.Task;
+import data.TaskColumns;
+
+import java.time.LocalDate;
+
+/**
+ * 날짜 구간 [from, to]의 하루하루 "계획 대비" 델타(팀 전체 + 팀원별)
+ *
+ * ✅ simDate를 하루씩 옮기며 Analyzer를 다시 돌리던 걸, 업무를 한 번만 훑어서 한꺼번에
+ *    - 업무마다 "시작/마감" 날에만 차분 배열(difference array)에 기록
+ *      (시작 수/진행률 합, 예상 진행률의 기울기/상수)
+ *    - 날짜 순서대로 누적하면 그날 값 → O(업무 수 + 날짜 수)
+ *
+ * 예상 진행률은 하루 단위 반올림 없이 직선(0 → 100%)으로 계산
+ * → Analyzer(업무마다 반올림)와 소수점 아래만 다름, 그래프/추세용
+ * 진행률은 지금 값 그대로(날짜별 기록은 없음)
+ */
+public final class ScheduleSeries {
+
+    private final LocalDate from;
+    private final int days;
+    private final TaskColumns columns;
+
+    private final double[] teamDelta;
+    private final double[][] memberDelta;   // [팀원 사전 번호][날짜]
+
+    private ScheduleSeries(LocalDate from, int days, TaskColumns columns, double[] teamDelta, double[][] memberDelta) {
+        this.from = from;
+        this.days = days;
+        this.columns = columns;
+        this.teamDelta = teamDelta;
+        this.memberDelta = memberDelta;
+    }
+
+    public static ScheduleSeries sweep(Project project, LocalDate from, LocalDate to) {
+        return sweep(project.getColumns(), from, to);
+    }
+
+    public static ScheduleSeries sweep(ProjectSnapshot snapshot, LocalDate from, LocalDate to) {
+        return sweep(snapshot.getColumns(), from, to);
+    }
+
+    private static ScheduleSeries sweep(TaskColumns c, LocalDate from, LocalDate to) {
+        int days = (from == null || to == null || to.isBefore(from)) ? 0
+                : (int) (to.toEpochDay() - from.toEpochDay()) + 1;
+        int base = (from == null) ? 0 : Task.toDay(from);
+        int members = c.memberIdCount();
+
+        // 차분 배열(팀 전체 + 팀원별), 날짜 d 값 = 0..d까지 누적
+        Diff team = new Diff(days);
+        Diff[] byMember = new Diff[members];
+        for (int m = 0; m < members; m++) byMember[m] = new Diff(days);
+
+        if (days > 0) {
+            int n = c.size();
+            for (int i = 0; i < n; i++) {
+                int ch = i >> TaskColumns.CHUNK_BITS;
+                int o = i & TaskColumns.CHUNK_MASK;
+                int ps = c.planStart()[ch][o];
+                int pe = c.planEnd()[ch][o];
+                int p = c.progress()[ch][o];
+                int a = c.assignee()[ch][o];
+
+                team.addTask(ps, pe, p, base);
+                if (a >= 0) byMember[a].addTask(ps, pe, p, base);
+            }
+        }
+
+        double[][] memberDelta = new double[members][];
+        for (int m = 0; m < members; m++) memberDelta[m] = byMember[m].finish();
+        return new ScheduleSeries(from, days, c, team.finish(), memberDelta);
+    }
+
+    // ===================== 조회 =====================
+
+    public LocalDate getFrom() { return from; }
+    public LocalDate getTo() { return (days == 0) ? null : from.plusDays(days - 1); }
+    public int getDayCount() { return days; }
+
+    public LocalDate dayAt(int index) { return from.plusDays(index); }
+
+    // 팀 전체 평균 델타(%)(음수면 늦음), 시작한 업무가 없는 날은 0
+    public double getTeamDelta(int index) { return teamDelta[index]; }
+
+    public double getTeamDelta(LocalDate day) {
+        int i = indexOf(day);
+        return (i < 0) ? 0 : teamDelta[i];
+    }
+
+    public double getMemberDelta(Member m, int index) {
+        int id = columns.memberId(m);
+        return (id < 0 || id >= memberDelta.length) ? 0 : memberDelta[id][index];
+    }
+
+    public double getMemberDelta(Member m, LocalDate day) {
+        int i = indexOf(day);
+        return (i < 0) ? 0 : getMemberDelta(m, i);
+    }
+
+    // 그래프용 복사본
+    public double[] getTeamDeltas() { return teamDelta.clone(); }
+
+    public double[] getMemberDeltas(Member m) {
+        int id = columns.memberId(m);
+        return (id < 0 || id >= memberDelta.length) ? new double[days] : memberDelta[id].clone();
+    }
+
+    // ✅ 팀 전체가 처음으로 percent% 이상 늦어진 날(없으면 null)
+    public LocalDate firstDayBehind(double percent) {
+        return firstAtOrBelow(teamDelta, -percent);
+    }
+
+    public LocalDate firstDayBehind(Member m, double percent) {
+        int id = columns.memberId(m);
+        if (id < 0 || id >= memberDelta.length) return null;
+        return firstAtOrBelow(memberDelta[id], -percent);
+    }
+
+    private LocalDate firstAtOrBelow(double[] series, double limit) {
+        for (int i = 0; i < days; i++) {
+            if (series[i] <= limit) return dayAt(i);
+        }
+        return null;
+    }
+
+    private int indexOf(LocalDate day) {
+        if (day == null || days == 0) return -1;
+        long i = day.toEpochDay() - from.toEpochDay();
+        return (i < 0 || i >= days) ? -1 : (int) i;
+    }
+
+    /**
+     * 한 묶음(팀 전체 또는 팀원 한 명)의 차분 배열
+     * 날짜 x(구간 시작부터 며칠째)의 예상 진행률 합 = constant[..x] + slope[..x] * x
+     */
+    private static final class Diff {
+        final int days;
+        final long[] started;     // 시작한 업무 수
+        final long[] progress;    // 시작한 업무 진행률 합
+        final double[] constant;
+        final double[] slope;
+
+        Diff(int days) {
+            this.days = days;
+            started = new long[days];
+            progress = new long[days];
+            constant = new double[days];
+            slope = new double[days];
+        }
+
+        // 날짜는 epoch-day, base = 구간 첫날
+        void addTask(int ps, int pe, int p, int base) {
+            // Analyzer와 같게: 시작일이 없으면 처음부터 시작한 걸로
+            int startAt = (ps == Task.NO_DATE) ? 0 : clamp((long) ps - base);
+            if (startAt < days) {
+                started[startAt]++;
+                progress[startAt] += p;
+            }
+
+            if (ps == Task.NO_DATE || pe == Task.NO_DATE) return;   // 예상 진행률 항상 0
+
+            long s0 = (long) ps - base;
+            if (pe > ps) {
+                // [시작, 마감) 동안 0 → 100 직선, 마감부터 100
+                double k = 100.0 / ((long) pe - ps);
+                add(s0, k, -k * s0);
+                add((long) pe - base, -k, k * s0 + 100);
+            } else {
+                add(s0, 0, 100);
+            }
+        }
+
+        private void add(long x, double dSlope, double dConstant) {
+            int i = clamp(x);
+            if (i >= days) return;
+            slope[i] += dSlope;
+            constant[i] += dConstant;
+        }
+
+        private int clamp(long x) {
+            if (x < 0) return 0;
+            return (x >= days) ? days : (int) x;
+        }
+
+        // 누적해서 날짜별 평균 델타
+        double[] finish() {
+            double[] out = new double[days];
+            long cnt = 0, prog = 0;
+            double c = 0, k = 0;
+            for (int x = 0; x < days; x++) {
+                cnt += started[x];
+                prog += progress[x];
+                c += constant[x];
+                k += slope[x];
+                if (cnt > 0) out[x] = (prog - (c + k * x)) / cnt;
+            }
+            return out;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package data;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+
+/**
+ * 업무 기간 인덱스(시작일 순, 간트 차트 행 순서용)
+ *
+ * ✅ 간트를 다시 그릴 때마다 전체 업무를 정렬하지 않고, 시작일 순으로 정렬된 채 유지
+ *    - 시작일이 같으면 업무 목록 순(예전 간트의 안정 정렬과 같은 순서)
+ *    - 시작일이 없는 업무는 따로 목록 순으로 모아 뒀다가 맨 뒤에 붙임(간트에서 안 빠짐)
+ *    - 목록 순은 Task.index로 비교(업무를 지워도 뒤쪽이 한 칸씩 당겨질 뿐 순서는 그대로)
+ *
+ * 날짜는 epoch-day, Project가 업무 추가/삭제/실제 일정 변경 때 직접 갱신
+ */
+public final class IntervalIndex {
+
+    private static final Comparator<Task> BY_INDEX = Comparator.comparingInt(t -> t.index);
+
+    private static final class Entry {
+        final Task task;
+        final int start;
+
+        Entry(Task task, int start) {
+            this.task = task;
+            this.start = start;
+        }
+    }
+
+    private static final Comparator<Entry> BY_START =
+            Comparator.<Entry>comparingInt(e -> e.start).thenComparingInt(e -> e.task.index);
+
+    private final NavigableSet<Entry> byStart = new TreeSet<Entry>(BY_START);
+    private final NavigableSet<Task> noStart = new TreeSet<Task>(BY_INDEX);
+    private final Map<Task, Entry> entries = new IdentityHashMap<Task, Entry>();
+
+    IntervalIndex() {}
+
+    public int size() { return entries.size() + noStart.size(); }
+
+    public boolean contains(Task t) { return entries.containsKey(t) || noStart.contains(t); }
+
+    // ===================== 갱신(Project에서만) =====================
+
+    // index가 정해진 뒤에 호출, 시작일은 epoch-day(Task.NO_DATE = 없음)
+    void put(Task t, int start) {
+        remove(t);
+        if (start == Task.NO_DATE) {
+            noStart.add(t);
+            return;
+        }
+        Entry e = new Entry(t, start);
+        entries.put(t, e);
+        byStart.add(e);
+    }
+
+    // index 바꾸기 전에 호출
+    void remove(Task t) {
+        Entry e = entries.remove(t);
+        if (e != null) byStart.remove(e);
+        else noStart.remove(t);
+    }
+
+    // ===================== 조회 =====================
+
+    // 전체: 시작일 순(같으면 목록 순) → 시작일 없는 업무(목록 순)
+    public List<Task> sortedByStart() {
+        List<Task> out = new ArrayList<Task>(size());
+        for (Entry e : byStart) out.add(e.task);
+        out.addAll(noStart);
+        return out;
+    }
+}
@@ -9,6 +9,9 @@ public class Member {
     private final String name;
     private final List<String> roles = new ArrayList<String>();
 
+    // 소속 프로젝트(역할 변경 이벤트용, Project.addMember에서 지정)
+    Project owner;
+
     public Member(String name, String rolesStr) {
         this.name = name;
         setRolesFromString(rolesStr);
@@ -42,6 +45,7 @@ public class Member {
             if (!r.isEmpty()) uniq.add(r);
         }
         roles.addAll(uniq);
+        if (owner != null) owner.onMemberUpdated(this);
     }
 
     public void setRoles(List<String> selectedRoles) {
@@ -54,6 +58,7 @@ public class Member {
             }
         }
         if (roles.isEmpty()) roles.add("미정");
+        if (owner != null) owner.onMemberUpdated(this);
     }
 
     @Override
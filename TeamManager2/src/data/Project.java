@@ -3,16 +3,33 @@ package data;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 public class Project {
     private String projectName = "새 프로젝트";
 
     private final List<Member> members = new ArrayList<Member>();
+    // ✅ 이름 → 팀원(이름은 프로젝트 안에서 유일, 로그인/담당자 찾기 O(1))
+    private final Map<String, Member> membersByName = new HashMap<String, Member>();
     private final List<Task> tasks = new ArrayList<Task>();
 
-    private int teamProgress = 0;
+    // ✅ 누적 합계(전체 스캔 없이 O(1)로 팀 진행률/상태별 개수 계산)
+    private long progressSum = 0;
+    private final int[] statusCounts = new int[TaskStatus.values().length];
+
+    // ✅ 담당자/상태/카테고리/마감일별 업무(걸러서 찾을 때 전체 스캔 X)
+    private final TaskIndex index = new TaskIndex();
+
+    // ✅ 계획/실제 기간 구간 트리("D일에 진행 중", "기간이 겹치는" 업무)
+    private final IntervalIndex planRanges = new IntervalIndex();
+    private final IntervalIndex actualRanges = new IntervalIndex();
+
+    // ✅ 분석용 열(column) 배열(행 번호 = 업무 목록 위치)
+    private final TaskColumns columns = new TaskColumns();
 
     // simDate
     private LocalDate simDate = LocalDate.now();
@@ -26,14 +43,38 @@ public class Project {
             "조장", "자료조사", "PPT", "발표"
     ));
 
+    // ✅ 변경 이벤트 구독자
+    private final List<ProjectChangeListener> listeners = new ArrayList<ProjectChangeListener>();
+
+    // ✅ 홈 화면용 요약(처음 찾을 때 만들고 이후엔 이벤트로 갱신)
+    private ProjectSummary summary;
+
+    // ✅ 스냅샷(바뀔 때마다 version 증가, 팀원 목록은 팀원이 바뀔 때만 새로)
+    private long version = 0;
+    private ProjectSnapshot lastSnapshot;
+    private List<Member> membersSnapshot;
+
     public String getProjectName() { return projectName; }
     public void setProjectName(String n) {
         if (n != null && !n.trim().isEmpty()) projectName = n.trim();
     }
 
+    public void addChangeListener(ProjectChangeListener l) { if (l != null && !listeners.contains(l)) listeners.add(l); }
+    public void removeChangeListener(ProjectChangeListener l) { listeners.remove(l); }
+
+    // 리스너 안에서 구독 해제해도 안전하도록 복사본으로 순회
+    private List<ProjectChangeListener> listenersSnapshot() {
+        return new ArrayList<ProjectChangeListener>(listeners);
+    }
+
     public LocalDate getSimDate() { return simDate; }
-    public void setSimDate(LocalDate d) { if (d != null) simDate = d; }
-    public void advanceDays(int days) { simDate = simDate.plusDays(days); }
+    public void setSimDate(LocalDate d) {
+        if (d == null || d.equals(simDate)) return;
+        simDate = d;
+        version++;
+        for (ProjectChangeListener l : listenersSnapshot()) l.simDateChanged(simDate);
+    }
+    public void advanceDays(int days) { setSimDate(simDate.plusDays(days)); }
 
     public LocalDate getProjectStart() { return projectStart; }
     public LocalDate getProjectEnd() { return projectEnd; }
@@ -41,38 +82,170 @@ public class Project {
     public void setProjectStart(LocalDate d) { if (d != null) projectStart = d; }
     public void setProjectEnd(LocalDate d) { if (d != null) projectEnd = d; }
 
-    public List<Member> getMembers() { return members; }
-    public List<Task> getTasks() { return tasks; }
+    // 이름 인덱스가 어긋나지 않도록 외부에서는 읽기 전용으로만
+    public List<Member> getMembers() { return Collections.unmodifiableList(members); }
+    // 누적 합계가 어긋나지 않도록 외부에서는 읽기 전용으로만
+    public List<Task> getTasks() { return Collections.unmodifiableList(tasks); }
+
+    public int getTaskCount() { return tasks.size(); }
+
+    // ✅ 조건별 업무(읽기 전용, 업무 목록 순서)
+    public Collection<Task> getTasksByAssignee(Member m) { return index.byAssignee(m); }
+    public Collection<Task> getTasksByStatus(TaskStatus st) { return index.byStatus(st); }
+    public Collection<Task> getTasksByCategory(String category) { return index.byCategory(category); }
+    public Collection<String> getCategories() { return index.categories(); }
+
+    public TaskColumns getColumns() { return columns; }
+
+    // ✅ 백그라운드 분석/저장용 스냅샷(EDT에서 호출, 조각 공유라 업무 수와 상관없이 빠름)
+    // 그 사이 바뀐 게 없으면 지난번 것을 그대로
+    public ProjectSnapshot snapshot() {
+        if (lastSnapshot == null || lastSnapshot.getVersion() != version) {
+            if (membersSnapshot == null) membersSnapshot = Collections.unmodifiableList(new ArrayList<Member>(members));
+            lastSnapshot = new ProjectSnapshot(version, columns.snapshot(), membersSnapshot, simDate);
+        }
+        return lastSnapshot;
+    }
+
+    public long getVersion() { return version; }
+
+    public IntervalIndex getPlanRanges() { return planRanges; }
+    public IntervalIndex getActualRanges() { return actualRanges; }
+
+    public int getStatusCount(TaskStatus st) { return (st == null) ? 0 : statusCounts[st.ordinal()]; }
+
+    public ProjectSummary getSummary() {
+        if (summary == null) {
+            summary = new ProjectSummary(this);
+            addChangeListener(summary);
+        }
+        return summary;
+    }
 
-    public int getTeamProgress() { return teamProgress; }
-    public void setTeamProgress(int v) { teamProgress = Math.max(0, Math.min(100, v)); }
+    public int getTeamProgress() {
+        if (tasks.isEmpty()) return 0;
+        return Math.round((float) progressSum / tasks.size());
+    }
 
     public List<String> getRoles() { return Collections.unmodifiableList(roles); }
     public void addRole(String role) {
         if (role == null) return;
         String r = role.trim();
         if (r.isEmpty()) return;
-        if (!roles.contains(r)) roles.add(r);
+        if (roles.contains(r)) return;
+        roles.add(r);
+        for (ProjectChangeListener l : listenersSnapshot()) l.roleAdded(r);
+    }
+
+    // 같은 이름이 이미 있으면 추가 안 함(false)
+    public boolean addMember(Member m) {
+        if (m == null || m.getName() == null) return false;
+        if (membersByName.containsKey(m.getName())) return false;
+        membersByName.put(m.getName(), m);
+        members.add(m);
+        m.owner = this;
+        membersChanged();
+        for (ProjectChangeListener l : listenersSnapshot()) l.memberAdded(m);
+        return true;
     }
 
-    public void addMember(Member m) { if (m != null) members.add(m); }
-    public void removeMember(Member m) { members.remove(m); }
+    public void removeMember(Member m) {
+        int index = members.indexOf(m);
+        if (index < 0) return;
+        members.remove(index);
+        membersByName.remove(m.getName(), m);
+        m.owner = null;
+        membersChanged();
+        for (ProjectChangeListener l : listenersSnapshot()) l.memberRemoved(m, index);
+    }
 
-    public void addTask(Task t) { if (t != null) tasks.add(t); }
+    private void membersChanged() {
+        membersSnapshot = null;
+        version++;
+    }
 
-    public Member findMemberByName(String name) {
-        if (name == null) return null;
-        for (Member m : members) {
-            if (name.equals(m.getName())) return m;
+    // Member.setRoles 등에서 호출
+    void onMemberUpdated(Member m) {
+        version++;
+        for (ProjectChangeListener l : listenersSnapshot()) l.memberChanged(m);
+    }
+
+    public void addTask(Task t) {
+        if (t == null) return;
+        t.index = tasks.size();
+        tasks.add(t);
+        t.owner = this;
+        columns.add(t);
+        index.add(t);
+        planRanges.put(t, t.getPlanStartDay());
+        actualRanges.put(t, t.getActualStartDay());
+        progressSum += t.getProgress();
+        statusCounts[t.getStatus().ordinal()]++;
+        version++;
+
+        for (ProjectChangeListener l : listenersSnapshot()) l.taskAdded(t);
+    }
+
+    public void removeTask(Task t) {
+        int pos = indexOf(t);
+        if (pos < 0) return;
+        index.remove(t);
+        planRanges.remove(t);
+        actualRanges.remove(t);
+        columns.remove(pos);
+        tasks.remove(pos);
+        for (int i = pos; i < tasks.size(); i++) tasks.get(i).index = i;
+        t.owner = null;
+        t.index = -1;
+        progressSum -= t.getProgress();
+        statusCounts[t.getStatus().ordinal()]--;
+        version++;
+
+        for (ProjectChangeListener l : listenersSnapshot()) l.taskRemoved(t, pos);
+    }
+
+    // ✅ 목록 위치를 Task가 기억하고 있어서 O(1)
+    public int indexOf(Task t) {
+        return (t != null && t.owner == this) ? t.index : -1;
+    }
+
+    // Task.updateProgress/updateStatus에서 호출(변경분만 반영)
+    void onTaskUpdated(Task t, int oldProgress, TaskStatus oldStatus) {
+        columns.updateProgress(t);
+        version++;
+        progressSum += t.getProgress() - oldProgress;
+        if (oldStatus != t.getStatus()) {
+            statusCounts[oldStatus.ordinal()]--;
+            statusCounts[t.getStatus().ordinal()]++;
+            index.statusChanged(t, oldStatus);
+        }
+
+        List<ProjectChangeListener> ls = listenersSnapshot();
+        if (oldProgress != t.getProgress()) {
+            for (ProjectChangeListener l : ls) l.progressChanged(t);
+        }
+        if (oldStatus != t.getStatus()) {
+            for (ProjectChangeListener l : ls) l.statusChanged(t, oldStatus);
         }
-        return null;
+    }
+
+    // Task.setActualStart/End에서 호출
+    void onTaskDatesUpdated(Task t) {
+        actualRanges.put(t, t.getActualStartDay());
+        columns.updateDates(t);
+        version++;
+        for (ProjectChangeListener l : listenersSnapshot()) l.taskDatesChanged(t);
+    }
+
+    public Member findMemberByName(String name) {
+        return (name == null) ? null : membersByName.get(name);
     }
 
     public void clearAll() {
-        members.clear();
-        tasks.clear();
-        teamProgress = 0;
-        simDate = LocalDate.now();
+        // 하나씩 지워서 구독자/누적 합계가 같이 정리되게
+        while (!tasks.isEmpty()) removeTask(tasks.get(tasks.size() - 1));
+        while (!members.isEmpty()) removeMember(members.get(members.size() - 1));
+        setSimDate(LocalDate.now());
         projectName = "새 프로젝트";
         projectStart = simDate;
         projectEnd = simDate.plusDays(14);
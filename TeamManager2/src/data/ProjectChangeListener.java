@@ -0,0 +1,26 @@
+package data;
+
+import java.time.LocalDate;
+
+/**
+ * Project 변경 이벤트(세분화)
+ *
+ * ✅ 패널은 자기가 그리는 것만 골라서 구독하고, 바뀐 행만 고치면 됨
+ *    (필요 없는 이벤트는 기본 구현이 아무것도 안 함)
+ */
+public interface ProjectChangeListener {
+    default void taskAdded(Task t) {}
+    default void taskRemoved(Task t, int index) {}
+
+    default void progressChanged(Task t) {}
+    default void statusChanged(Task t, TaskStatus oldStatus) {}
+    default void taskDatesChanged(Task t) {}     // 실제 시작/마감 변경
+
+    default void memberAdded(Member m) {}
+    default void memberRemoved(Member m, int index) {}
+    default void memberChanged(Member m) {}      // 역할 변경
+
+    default void roleAdded(String role) {}
+
+    default void simDateChanged(LocalDate simDate) {}
+}
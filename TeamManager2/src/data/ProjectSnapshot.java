@@ -0,0 +1,57 @@
+package data;
+
+import java.time.LocalDate;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * 분석/저장용 프로젝트 스냅샷(만든 뒤 절대 안 바뀜)
+ *
+ * ✅ EDT에서 Project.snapshot()으로 찍고, 다른 스레드에서 잠금 없이 읽기
+ *    - 열 배열은 TaskColumns 조각을 원본과 공유(원본이 바뀌면 원본 쪽이 조각을 복사)
+ *    - 업무 목록도 열(tasks)에서 바로 → 찍는 비용이 업무 수와 상관없음
+ *    - 팀원 목록은 팀원이 바뀔 때만 새로 만든 읽기 전용 목록을 공유
+ *    - Task 객체 자체는 공유(값은 열 배열 쪽을 봐야 찍은 시점 값)
+ */
+public final class ProjectSnapshot {
+
+    private final long version;
+    private final TaskColumns columns;
+    private final List<Task> tasks;
+    private final List<Member> members;
+    private final LocalDate simDate;
+
+    ProjectSnapshot(long version, TaskColumns columns, List<Member> members, LocalDate simDate) {
+        this.version = version;
+        this.columns = columns;
+        this.tasks = new TaskList(columns);
+        this.members = members;
+        this.simDate = simDate;
+    }
+
+    // Project가 바뀔 때마다 올라가는 번호(같으면 같은 내용)
+    public long getVersion() { return version; }
+
+    public TaskColumns getColumns() { return columns; }
+
+    // i번째 = 열 배열 i번째 행
+    public List<Task> getTasks() { return tasks; }
+
+    public List<Member> getMembers() { return members; }
+
+    public LocalDate getSimDate() { return simDate; }
+
+    private static final class TaskList extends AbstractList<Task> implements RandomAccess {
+        private final TaskColumns columns;
+
+        TaskList(TaskColumns columns) { this.columns = columns; }
+
+        @Override public Task get(int i) {
+            if (i < 0 || i >= columns.size()) throw new IndexOutOfBoundsException("index " + i);
+            return columns.task(i);
+        }
+
+        @Override public int size() { return columns.size(); }
+    }
+}
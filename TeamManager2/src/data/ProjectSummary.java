@@ -0,0 +1,117 @@
+package data;
+
+import java.time.LocalDate;
+
+/**
+ * 프로젝트 요약(홈 화면/긴급 알림용 숫자 모음)
+ *
+ * ✅ 업무가 바뀔 때마다 그 업무 몫만 빼고 다시 더함(전체 스캔 X)
+ *    - 업무마다 "어디에 세었는지"(summaryFlags)를 기억해 두고 차이만 반영
+ *    - simDate가 바뀌면 마감임박/지연 기준이 통째로 바뀌므로 다음에 읽을 때 한 번만 다시 셈
+ *
+ * 업무 수/완료/Blocked는 Project의 누적 합계를 그대로 사용
+ */
+public class ProjectSummary implements ProjectChangeListener {
+
+    // 마감 며칠 전부터 "마감 임박"으로 셀지
+    public static final int DUE_SOON_DAYS = 3;
+
+    static final byte DUE_SOON = 1;
+    static final byte DELAYED = 2;
+
+    private final Project project;
+
+    private int dueSoonCount = 0;
+    private int delayedCount = 0;
+    private boolean stale = true;   // simDate 변경 후 아직 다시 안 셈
+
+    ProjectSummary(Project project) {
+        this.project = project;
+    }
+
+    public int getTaskCount() { return project.getTaskCount(); }
+    public int getDoneCount() { return project.getStatusCount(TaskStatus.DONE); }
+    public int getBlockedCount() { return project.getStatusCount(TaskStatus.BLOCKED); }
+
+    public int getDueSoonCount() {
+        ensureFresh();
+        return dueSoonCount;
+    }
+
+    public int getDelayedCount() {
+        ensureFresh();
+        return delayedCount;
+    }
+
+    public boolean isDone() {
+        int n = getTaskCount();
+        return n > 0 && getDoneCount() == n;
+    }
+
+    // ===================== 계산 =====================
+
+    private void ensureFresh() {
+        if (!stale) return;
+        dueSoonCount = 0;
+        delayedCount = 0;
+        for (Task t : project.getTasks()) {
+            t.summaryFlags = 0;
+            count(t);
+        }
+        stale = false;
+    }
+
+    private byte flagsOf(Task t) {
+        if (t.getStatus() == TaskStatus.DONE) return 0;
+
+        int sim = Task.toDay(project.getSimDate());
+        byte f = 0;
+        if (t.getPlanEndDay() != Task.NO_DATE && (long) t.getPlanEndDay() - sim <= DUE_SOON_DAYS) f |= DUE_SOON;
+        if (t.getScheduleDelta(sim) < 0) f |= DELAYED;
+        return f;
+    }
+
+    // 이전에 센 몫 빼고 지금 상태로 다시 세기
+    private void count(Task t) {
+        uncount(t);
+        byte f = flagsOf(t);
+        if ((f & DUE_SOON) != 0) dueSoonCount++;
+        if ((f & DELAYED) != 0) delayedCount++;
+        t.summaryFlags = f;
+    }
+
+    private void uncount(Task t) {
+        byte f = t.summaryFlags;
+        if ((f & DUE_SOON) != 0) dueSoonCount--;
+        if ((f & DELAYED) != 0) delayedCount--;
+        t.summaryFlags = 0;
+    }
+
+    // ===================== 이벤트 =====================
+
+    @Override
+    public void taskAdded(Task t) {
+        t.summaryFlags = 0;
+        if (!stale) count(t);
+    }
+
+    @Override
+    public void taskRemoved(Task t, int index) {
+        if (!stale) uncount(t);
+    }
+
+    @Override
+    public void progressChanged(Task t) {
+        if (!stale) count(t);
+    }
+
+    @Override
+    public void statusChanged(Task t, TaskStatus oldStatus) {
+        if (!stale) count(t);
+    }
+
+    @Override
+    public void simDateChanged(LocalDate simDate) {
+        stale = true;
+    }
+}
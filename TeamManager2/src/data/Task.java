@@ -1,7 +1,6 @@
 package data;
 
 import java.time.LocalDate;
-import java.time.temporal.ChronoUnit;
 
 public class Task {
     private String title;
@@ -9,45 +8,95 @@ public class Task {
     private Member assignee;
     private int difficulty;
 
+    // ✅ 날짜는 epoch-day(int)로 저장(LocalDate 객체 4개 대신 정수 4개, 일정 계산도 정수 뺄셈)
+    //    없으면 NO_DATE, LocalDate getter는 꺼낼 때만 변환
+    public static final int NO_DATE = Integer.MIN_VALUE;
+
     // ✅ 계획 일정
-    private LocalDate planStart;
-    private LocalDate planEnd;
+    private int planStart;
+    private int planEnd;
 
     // ✅ 실제 일정(표에서 직접 입력)
-    private LocalDate actualStart;
-    private LocalDate actualEnd;
+    private int actualStart = NO_DATE;
+    private int actualEnd = NO_DATE;
 
     private int progress = 0;
     private TaskStatus status = TaskStatus.NOT_STARTED;
 
+    // 소속 프로젝트(누적 합계 갱신용, Project.addTask에서 지정)
+    Project owner;
+    int index = -1;         // 프로젝트 업무 목록에서의 위치
+    byte summaryFlags = 0;  // ProjectSummary가 어디에 세었는지(마감임박/지연)
+
+    // ✅ 마지막으로 계산한 예상 진행률(상위 32비트 = simDay, 하위 = 값 | MEMO_SET)
+    //    렌더러/분석이 같은 simDay로 여러 번 물어봐도 계산은 simDay가 바뀔 때 한 번
+    //    계획 일정은 업무를 만든 뒤 안 바뀌고 진행률은 델타에서 따로 빼므로 simDay만 키로 충분
+    //    long 하나로 읽고 써서 다른 스레드에서 읽어도 키/값이 어긋나지 않음
+    private volatile long expectedMemo = 0;
+    private static final int MEMO_SET = 0x100;
+
     public Task(String title, String category, Member assignee, int difficulty,
                 LocalDate planStart, LocalDate planEnd) {
         this.title = title;
         this.category = category;
         this.assignee = assignee;
         this.difficulty = difficulty;
-        this.planStart = planStart;
-        this.planEnd = planEnd;
+        this.planStart = toDay(planStart);
+        this.planEnd = toDay(planEnd);
+    }
+
+    public static int toDay(LocalDate d) {
+        return (d == null) ? NO_DATE : (int) d.toEpochDay();
+    }
+
+    public static LocalDate fromDay(int day) {
+        return (day == NO_DATE) ? null : LocalDate.ofEpochDay(day);
     }
 
     public String getTitle() { return title; }
     public String getCategory() { return category; }
     public Member getAssignee() { return assignee; }
+
+    // ✅ 표시용 담당자 이름: 담당자가 없으면(삭제된 팀원 → 저장 후 다시 불러온 업무 등) "미배정"
+    public static final String UNASSIGNED = "미배정";
+    public String getAssigneeName() {
+        return (assignee == null || assignee.getName() == null) ? UNASSIGNED : assignee.getName();
+    }
     public int getDifficulty() { return difficulty; }
 
-    public LocalDate getPlanStart() { return planStart; }
-    public LocalDate getPlanEnd() { return planEnd; }
+    public LocalDate getPlanStart() { return fromDay(planStart); }
+    public LocalDate getPlanEnd() { return fromDay(planEnd); }
 
-    public LocalDate getActualStart() { return actualStart; }
-    public LocalDate getActualEnd() { return actualEnd; }
+    public LocalDate getActualStart() { return fromDay(actualStart); }
+    public LocalDate getActualEnd() { return fromDay(actualEnd); }
 
-    public void setActualStart(LocalDate d) { actualStart = d; }
-    public void setActualEnd(LocalDate d) { actualEnd = d; }
+    // epoch-day 그대로(없으면 NO_DATE)
+    public int getPlanStartDay() { return planStart; }
+    public int getPlanEndDay() { return planEnd; }
+    public int getActualStartDay() { return actualStart; }
+    public int getActualEndDay() { return actualEnd; }
+
+    public void setActualStart(LocalDate d) {
+        int day = toDay(d);
+        if (actualStart == day) return;
+        actualStart = day;
+        if (owner != null) owner.onTaskDatesUpdated(this);
+    }
+
+    public void setActualEnd(LocalDate d) {
+        int day = toDay(d);
+        if (actualEnd == day) return;
+        actualEnd = day;
+        if (owner != null) owner.onTaskDatesUpdated(this);
+    }
 
     public int getProgress() { return progress; }
     public TaskStatus getStatus() { return status; }
 
     public void updateProgress(int p) {
+        int oldProgress = progress;
+        TaskStatus oldStatus = status;
+
         p = Math.max(0, Math.min(100, p));
         progress = p;
 
@@ -56,36 +105,60 @@ public class Task {
             else if (progress >= 100) status = TaskStatus.DONE;
             else status = TaskStatus.IN_PROGRESS;
         }
+
+        if (owner != null) owner.onTaskUpdated(this, oldProgress, oldStatus);
     }
 
     public void updateStatus(TaskStatus st) {
         if (st == null) return;
+        int oldProgress = progress;
+        TaskStatus oldStatus = status;
+
         status = st;
 
         if (status == TaskStatus.DONE) progress = 100;
         if (status == TaskStatus.NOT_STARTED) progress = 0;
+
+        if (owner != null) owner.onTaskUpdated(this, oldProgress, oldStatus);
     }
 
     // ✅ simDate 기준 “계획상 예상 진행률”
     public int getExpectedProgress(LocalDate simDate) {
-        if (simDate == null) return 0;
-        if (planStart == null || planEnd == null) return 0;
+        return getExpectedProgress(toDay(simDate));
+    }
 
-        if (simDate.isBefore(planStart)) return 0;
-        if (simDate.isAfter(planEnd) || simDate.equals(planEnd)) return 100;
+    // 정수만 사용(렌더러처럼 자주 부르는 곳용)
+    public int getExpectedProgress(int simDay) {
+        long memo = expectedMemo;
+        if ((int) (memo >>> 32) == simDay && ((int) memo & MEMO_SET) != 0) {
+            return (int) memo & 0xFF;
+        }
+        int value = expectedProgress(planStart, planEnd, simDay);
+        expectedMemo = ((long) simDay << 32) | (value | MEMO_SET);
+        return value;
+    }
+
+    // 열 배열(TaskColumns)에서도 같은 계산을 쓰도록 static으로
+    public static int expectedProgress(int planStart, int planEnd, int simDay) {
+        if (simDay == NO_DATE) return 0;
+        if (planStart == NO_DATE || planEnd == NO_DATE) return 0;
 
-        long total = ChronoUnit.DAYS.between(planStart, planEnd);
-        if (total <= 0) return 100;
+        if (simDay < planStart) return 0;
+        if (simDay >= planEnd) return 100;
 
-        long elapsed = ChronoUnit.DAYS.between(planStart, simDate);
-        int exp = (int) Math.round((elapsed * 100.0) / total);
-        return Math.max(0, Math.min(100, exp));
+        long total = (long) planEnd - planStart;
+        long elapsed = (long) simDay - planStart;
+        // Math.round(elapsed * 100.0 / total)와 같은 값(0 < elapsed < total)
+        return (int) ((elapsed * 200 + total) / (2 * total));
     }
 
     // ✅ 실제-예상(음수=늦음, 양수=빠름)
     public int getScheduleDelta(LocalDate simDate) {
-        int exp = getExpectedProgress(simDate);
-        return progress - exp;
+        return progress - getExpectedProgress(simDate);
+    }
+
+    public int getScheduleDelta(int simDay) {
+        return progress - getExpectedProgress(simDay);
     }
 
     @Override
@@ -0,0 +1,239 @@
+package data;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 업무 값을 열(column)별 기본형 배열로 모아둔 것(분석/저장용)
+ *
+ * ✅ i번째 행 = 업무 목록 i번째 업무(Task.index)
+ *    - 진행률/날짜 4개는 int, 상태는 byte(ordinal)
+ *      (실제 날짜는 스냅샷 저장(ProjectStore)이 읽음, 난이도처럼 안 바뀌고 아무도 안 훑는 값은 Task에서)
+ *    - 담당자/카테고리는 사전 번호(int)로 → 객체 안 따라가고 배열만 훑음
+ *    → Analyzer 집계가 객체 참조 없이 배열 반복문 하나로 끝남(JIT 최적화 잘 됨)
+ *
+ * ✅ 각 열은 CHUNK_SIZE행짜리 조각 배열들(열[조각번호][조각 안 위치])
+ *    - snapshot()은 조각 목록만 복사하고 조각 자체는 공유(업무 수와 상관없이 빠름)
+ *    - 공유 중인 조각에 쓸 때만 그 조각을 복사(copy-on-write)
+ *      → 스냅샷은 절대 안 바뀌어서 다른 스레드가 잠금 없이 읽어도 됨
+ *
+ * Project가 업무 추가/삭제/변경 때 Task와 같이 갱신(Task 객체는 그대로 화면용으로 사용)
+ * 배열은 읽기 전용으로만 쓰고, 유효한 행은 size()까지
+ */
+public final class TaskColumns {
+
+    public static final int NO_ID = -1;
+
+    public static final int CHUNK_BITS = 12;
+    public static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+    public static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+    private int size = 0;
+
+    private Task[][] tasks = new Task[4][];
+    private int[][] progress = new int[4][];
+    private int[][] planStart = new int[4][];
+    private int[][] planEnd = new int[4][];
+    private int[][] actualStart = new int[4][];
+    private int[][] actualEnd = new int[4][];
+    private byte[][] status = new byte[4][];
+    private int[][] assignee = new int[4][];
+    private int[][] category = new int[4][];
+
+    // 이 인스턴스만 쓰는 조각인지(false = 스냅샷과 공유 중 → 쓰기 전에 복사)
+    private boolean[] owned = new boolean[4];
+
+    // 사전(번호는 한 번 정해지면 안 바뀜)
+    private final Map<Member, Integer> memberIds = new IdentityHashMap<Member, Integer>();
+    private final List<Member> members = new ArrayList<Member>();
+    private final Map<String, Integer> categoryIds = new HashMap<String, Integer>();
+    private final List<String> categories = new ArrayList<String>();
+
+    TaskColumns() {}
+
+    // 스냅샷: 조각 목록만 복사(조각은 공유), 사전은 작아서 통째로 복사
+    private TaskColumns(TaskColumns src) {
+        size = src.size;
+        tasks = src.tasks.clone();
+        progress = src.progress.clone();
+        planStart = src.planStart.clone();
+        planEnd = src.planEnd.clone();
+        actualStart = src.actualStart.clone();
+        actualEnd = src.actualEnd.clone();
+        status = src.status.clone();
+        assignee = src.assignee.clone();
+        category = src.category.clone();
+        owned = new boolean[src.owned.length];
+        memberIds.putAll(src.memberIds);
+        members.addAll(src.members);
+        categoryIds.putAll(src.categoryIds);
+        categories.addAll(src.categories);
+    }
+
+    TaskColumns snapshot() {
+        TaskColumns copy = new TaskColumns(this);
+        Arrays.fill(owned, false);      // 이제부터 원본도 쓰기 전에 복사
+        return copy;
+    }
+
+    public int size() { return size; }
+
+    // 조각 배열들: 행 i → [i >> CHUNK_BITS][i & CHUNK_MASK]
+    public Task[][] tasks() { return tasks; }
+    public int[][] progress() { return progress; }
+    public int[][] planStart() { return planStart; }
+    public int[][] planEnd() { return planEnd; }
+    public int[][] actualStart() { return actualStart; }
+    public int[][] actualEnd() { return actualEnd; }
+    public byte[][] status() { return status; }
+    public int[][] assignee() { return assignee; }
+    public int[][] category() { return category; }
+
+    public Task task(int row) { return tasks[row >> CHUNK_BITS][row & CHUNK_MASK]; }
+
+    // 사전 조회(없으면 NO_ID / null)
+    public int memberId(Member m) {
+        Integer id = memberIds.get(m);
+        return (id == null) ? NO_ID : id;
+    }
+
+    public Member member(int id) { return (id < 0 || id >= members.size()) ? null : members.get(id); }
+
+    public int categoryId(String c) {
+        Integer id = categoryIds.get(c);
+        return (id == null) ? NO_ID : id;
+    }
+
+    public String category(int id) { return (id < 0 || id >= categories.size()) ? null : categories.get(id); }
+
+    public int memberIdCount() { return members.size(); }
+    public int categoryIdCount() { return categories.size(); }
+
+    // ===================== 갱신(Project에서만) =====================
+
+    void add(Task t) {
+        int i = size;
+        int ch = i >> CHUNK_BITS;
+        int o = i & CHUNK_MASK;
+        if (o == 0) newChunk(ch);
+        else writable(ch);
+        size++;
+
+        tasks[ch][o] = t;
+        progress[ch][o] = t.getProgress();
+        planStart[ch][o] = t.getPlanStartDay();
+        planEnd[ch][o] = t.getPlanEndDay();
+        actualStart[ch][o] = t.getActualStartDay();
+        actualEnd[ch][o] = t.getActualEndDay();
+        status[ch][o] = (byte) t.getStatus().ordinal();
+        assignee[ch][o] = internMember(t.getAssignee());
+        category[ch][o] = internCategory(t.getCategory());
+    }
+
+    // 뒤쪽 행을 한 칸씩 당김(ArrayList.remove와 같은 비용, 조각 경계는 다음 조각 첫 행을 끌어옴)
+    void remove(int i) {
+        int last = (size - 1) >> CHUNK_BITS;
+        for (int ch = i >> CHUNK_BITS; ch <= last; ch++) writable(ch);
+
+        Object[][] columns = { tasks, progress, planStart, planEnd,
+                actualStart, actualEnd, status, assignee, category };
+        for (Object[] col : columns) shiftLeft(col, i, size);
+
+        tasks[last][(size - 1) & CHUNK_MASK] = null;
+        size--;
+    }
+
+    void updateProgress(Task t) {
+        int ch = t.index >> CHUNK_BITS;
+        int o = t.index & CHUNK_MASK;
+        writable(ch);
+        progress[ch][o] = t.getProgress();
+        status[ch][o] = (byte) t.getStatus().ordinal();
+    }
+
+    void updateDates(Task t) {
+        int ch = t.index >> CHUNK_BITS;
+        int o = t.index & CHUNK_MASK;
+        writable(ch);
+        actualStart[ch][o] = t.getActualStartDay();
+        actualEnd[ch][o] = t.getActualEndDay();
+    }
+
+    // 한 열(조각 배열)에서 i+1..size-1 행을 한 칸 앞으로
+    private static void shiftLeft(Object[] col, int i, int size) {
+        int last = (size - 1) >> CHUNK_BITS;
+        for (int ch = i >> CHUNK_BITS; ch <= last; ch++) {
+            int from = (ch == (i >> CHUNK_BITS)) ? (i & CHUNK_MASK) : 0;
+            int end = (ch == last) ? ((size - 1) & CHUNK_MASK) + 1 : CHUNK_SIZE;
+            if (end - from > 1) System.arraycopy(col[ch], from + 1, col[ch], from, end - from - 1);
+            if (ch < last) System.arraycopy(col[ch + 1], 0, col[ch], CHUNK_SIZE - 1, 1);
+        }
+    }
+
+    // 공유 중인 조각이면 복사해서 이 인스턴스 것으로
+    private void writable(int ch) {
+        if (owned[ch]) return;
+        tasks[ch] = tasks[ch].clone();
+        progress[ch] = progress[ch].clone();
+        planStart[ch] = planStart[ch].clone();
+        planEnd[ch] = planEnd[ch].clone();
+        actualStart[ch] = actualStart[ch].clone();
+        actualEnd[ch] = actualEnd[ch].clone();
+        status[ch] = status[ch].clone();
+        assignee[ch] = assignee[ch].clone();
+        category[ch] = category[ch].clone();
+        owned[ch] = true;
+    }
+
+    private void newChunk(int ch) {
+        if (ch == tasks.length) {
+            int cap = tasks.length * 2;
+            tasks = Arrays.copyOf(tasks, cap);
+            progress = Arrays.copyOf(progress, cap);
+            planStart = Arrays.copyOf(planStart, cap);
+            planEnd = Arrays.copyOf(planEnd, cap);
+            actualStart = Arrays.copyOf(actualStart, cap);
+            actualEnd = Arrays.copyOf(actualEnd, cap);
+            status = Arrays.copyOf(status, cap);
+            assignee = Arrays.copyOf(assignee, cap);
+            category = Arrays.copyOf(category, cap);
+            owned = Arrays.copyOf(owned, cap);
+        }
+        tasks[ch] = new Task[CHUNK_SIZE];
+        progress[ch] = new int[CHUNK_SIZE];
+        planStart[ch] = new int[CHUNK_SIZE];
+        planEnd[ch] = new int[CHUNK_SIZE];
+        actualStart[ch] = new int[CHUNK_SIZE];
+        actualEnd[ch] = new int[CHUNK_SIZE];
+        status[ch] = new byte[CHUNK_SIZE];
+        assignee[ch] = new int[CHUNK_SIZE];
+        category[ch] = new int[CHUNK_SIZE];
+        owned[ch] = true;
+    }
+
+    private int internMember(Member m) {
+        if (m == null) return NO_ID;
+        Integer id = memberIds.get(m);
+        if (id == null) {
+            id = members.size();
+            members.add(m);
+            memberIds.put(m, id);
+        }
+        return id;
+    }
+
+    private int internCategory(String c) {
+        if (c == null) return NO_ID;
+        Integer id = categoryIds.get(c);
+        if (id == null) {
+            id = categories.size();
+            categories.add(c);
+            categoryIds.put(c, id);
+        }
+        return id;
+    }
+}
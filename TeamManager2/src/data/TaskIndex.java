@@ -0,0 +1,80 @@
+package data;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+
+/**
+ * Project 업무 보조 인덱스(담당자/상태/카테고리)
+ *
+ * ✅ 화면마다 전체 업무를 돌면서 거르던 걸 "해당 업무만" 바로 꺼내기
+ *    - 각 묶음은 업무 목록 순서(Task.index)로 정렬된 TreeSet
+ *      (업무를 지워도 뒤쪽 index가 한 칸씩 당겨질 뿐 순서는 그대로라 정렬이 안 깨짐)
+ *
+ * 담당자/카테고리는 업무를 만든 뒤 안 바뀜 → 상태만 옮겨주면 됨
+ * Project가 목록을 바꿀 때 직접 호출(이벤트보다 먼저 반영되어야 구독자가 최신 인덱스를 봄)
+ */
+final class TaskIndex {
+
+    private static final Comparator<Task> BY_INDEX = Comparator.comparingInt(t -> t.index);
+
+    private final Map<Member, NavigableSet<Task>> byAssignee = new HashMap<Member, NavigableSet<Task>>();
+    private final Map<TaskStatus, NavigableSet<Task>> byStatus = new HashMap<TaskStatus, NavigableSet<Task>>();
+    private final Map<String, NavigableSet<Task>> byCategory = new LinkedHashMap<String, NavigableSet<Task>>();
+
+    // index가 정해진 뒤에 호출
+    void add(Task t) {
+        put(byAssignee, t.getAssignee(), t);
+        put(byStatus, t.getStatus(), t);
+        put(byCategory, t.getCategory(), t);
+    }
+
+    // index 바꾸기 전에 호출
+    void remove(Task t) {
+        take(byAssignee, t.getAssignee(), t);
+        take(byStatus, t.getStatus(), t);
+        take(byCategory, t.getCategory(), t);
+    }
+
+    void statusChanged(Task t, TaskStatus oldStatus) {
+        take(byStatus, oldStatus, t);
+        put(byStatus, t.getStatus(), t);
+    }
+
+    // ===================== 조회 =====================
+
+    Collection<Task> byAssignee(Member m) { return view(byAssignee.get(m)); }
+
+    Collection<Task> byStatus(TaskStatus st) { return view(byStatus.get(st)); }
+
+    Collection<Task> byCategory(String category) { return view(byCategory.get(category)); }
+
+    Collection<String> categories() { return Collections.unmodifiableSet(byCategory.keySet()); }
+
+    // ===================== 내부 =====================
+
+    private static <K> void put(Map<K, NavigableSet<Task>> map, K key, Task t) {
+        NavigableSet<Task> set = map.get(key);
+        if (set == null) {
+            set = new TreeSet<Task>(BY_INDEX);
+            map.put(key, set);
+        }
+        set.add(t);
+    }
+
+    private static <K> void take(Map<K, NavigableSet<Task>> map, K key, Task t) {
+        NavigableSet<Task> set = map.get(key);
+        if (set == null) return;
+        set.remove(t);
+        if (set.isEmpty()) map.remove(key);
+    }
+
+    private static Collection<Task> view(NavigableSet<Task> set) {
+        return (set == null) ? Collections.<Task>emptySet() : Collections.unmodifiableSet(set);
+    }
+}
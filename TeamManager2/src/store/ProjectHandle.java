@@ -0,0 +1,98 @@
+package store;
+
+import data.Project;
+import data.ProjectSummary;
+
+import java.io.File;
+import java.io.IOException;
+import java.time.LocalDate;
+
+/**
+ * 홈 화면 목록의 프로젝트 한 칸
+ *
+ * ✅ 처음엔 파일 요약(ProjectHeader)만 들고 있다가,
+ *    프로젝트 창을 열 때(getProject) 처음으로 업무까지 전부 불러옴
+ *    → 불러온 뒤에는 요약 대신 실제 Project 값을 보여줌
+ */
+public class ProjectHandle {
+
+    private final File file;
+    private ProjectHeader header;       // 불러오기 전 표시용
+    private ProjectJournal journal;     // 불러온 뒤에만 있음
+
+    ProjectHandle(File file, ProjectHeader header) {
+        this.file = file;
+        this.header = header;
+    }
+
+    ProjectHandle(File file, ProjectJournal journal) {
+        this.file = file;
+        this.journal = journal;
+    }
+
+    File getFile() { return file; }
+
+    ProjectJournal getJournal() { return journal; }
+
+    public boolean isLoaded() { return journal != null; }
+
+    // 업무까지 전부 필요할 때(프로젝트 창 열기/이름 변경)
+    public Project getProject() throws IOException {
+        if (journal == null) {
+            journal = ProjectJournal.open(file);
+            header = null;
+        }
+        return journal.getProject();
+    }
+
+    public String getProjectName() {
+        return isLoaded() ? journal.getProject().getProjectName() : header.name;
+    }
+
+    public LocalDate getProjectStart() {
+        return isLoaded() ? journal.getProject().getProjectStart() : header.start;
+    }
+
+    public LocalDate getProjectEnd() {
+        return isLoaded() ? journal.getProject().getProjectEnd() : header.end;
+    }
+
+    public LocalDate getSimDate() {
+        return isLoaded() ? journal.getProject().getSimDate() : header.simDate;
+    }
+
+    // 숫자들: 불러왔으면 ProjectSummary(이벤트로 갱신되는 캐시), 아니면 파일 요약
+    public int getTaskCount() {
+        return isLoaded() ? summary().getTaskCount() : header.taskCount;
+    }
+
+    public int getDoneCount() {
+        return isLoaded() ? summary().getDoneCount() : header.doneCount;
+    }
+
+    public int getBlockedCount() {
+        return isLoaded() ? summary().getBlockedCount() : header.blockedCount;
+    }
+
+    public int getDueSoonCount() {
+        return isLoaded() ? summary().getDueSoonCount() : header.dueSoonCount;
+    }
+
+    public int getDelayedCount() {
+        return isLoaded() ? summary().getDelayedCount() : header.delayedCount;
+    }
+
+    public boolean isDone() {
+        int n = getTaskCount();
+        return n > 0 && getDoneCount() == n;
+    }
+
+    private ProjectSummary summary() {
+        return journal.getProject().getSummary();
+    }
+
+    @Override
+    public String toString() {
+        return getProjectName();
+    }
+}
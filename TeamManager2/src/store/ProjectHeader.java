@@ -0,0 +1,196 @@
+package store;
+
+import data.Project;
+import data.ProjectSummary;
+
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+
+/**
+ * 프로젝트 파일 앞쪽의 요약 블록(v3부터)
+ *
+ * ✅ 홈 화면에 필요한 값(이름/기간/simDate/업무 수/완료·Blocked·마감임박·지연 수)만 모아둔 것
+ *    → 파일 앞쪽만 mmap으로 열어서 이 블록만 읽으면 업무 개수와 상관없이 바로 목록 표시 가능
+ *
+ * [요약] 길이(int) + 이름 / 시작 / 종료 / simDate / 업무 수 / 완료 / Blocked / 마감임박 / 지연
+ *   길이가 앞에 있어서 나중에 항목이 늘어도 옛 파일/새 파일 모두 건너뛰기 가능
+ */
+public final class ProjectHeader {
+
+    final String name;
+    final LocalDate start;
+    final LocalDate end;
+    final LocalDate simDate;
+    final int taskCount;
+    final int doneCount;
+    final int blockedCount;
+    final int dueSoonCount;
+    final int delayedCount;
+
+    ProjectHeader(String name, LocalDate start, LocalDate end, LocalDate simDate,
+                  int taskCount, int doneCount, int blockedCount, int dueSoonCount, int delayedCount) {
+        this.name = name;
+        this.start = start;
+        this.end = end;
+        this.simDate = simDate;
+        this.taskCount = taskCount;
+        this.doneCount = doneCount;
+        this.blockedCount = blockedCount;
+        this.dueSoonCount = dueSoonCount;
+        this.delayedCount = delayedCount;
+    }
+
+    // 메모리에 올라온 프로젝트에서 요약 만들기(ProjectSummary가 이미 세어 둔 값)
+    static ProjectHeader of(Project p) {
+        ProjectSummary s = p.getSummary();
+        return new ProjectHeader(p.getProjectName(), p.getProjectStart(), p.getProjectEnd(), p.getSimDate(),
+                s.getTaskCount(), s.getDoneCount(), s.getBlockedCount(), s.getDueSoonCount(), s.getDelayedCount());
+    }
+
+    void write(DataOutputStream out) throws IOException {
+        byte[] nameBytes = (name == null) ? null : name.getBytes(StandardCharsets.UTF_8);
+        int len = 4 + (nameBytes == null ? 0 : nameBytes.length) + 4 * 8;
+
+        out.writeInt(len);
+        if (nameBytes == null) {
+            out.writeInt(-1);
+        } else {
+            out.writeInt(nameBytes.length);
+            out.write(nameBytes);
+        }
+        out.writeInt(ProjectStore.toDay(start));
+        out.writeInt(ProjectStore.toDay(end));
+        out.writeInt(ProjectStore.toDay(simDate));
+        out.writeInt(taskCount);
+        out.writeInt(doneCount);
+        out.writeInt(blockedCount);
+        out.writeInt(dueSoonCount);
+        out.writeInt(delayedCount);
+    }
+
+    // ===================== mmap으로 읽기 =====================
+
+    // magic + 버전 + 저널 세대 + 요약 길이
+    private static final int FIXED_SIZE = 4 + 2 + 8 + 4;
+
+    // 처음 매핑할 앞부분 크기(요약은 보통 이름 + 수십 바이트라 한 페이지면 충분)
+    private static final int MAP_SIZE = 4096;
+
+    // 매핑 즉시 해제(sun.misc.Unsafe.invokeCleaner, 없으면 null → 힙 버퍼로 읽기)
+    private static final Object UNSAFE;
+    private static final Method INVOKE_CLEANER;
+
+    static {
+        Object unsafe = null;
+        Method cleaner = null;
+        try {
+            Class<?> c = Class.forName("sun.misc.Unsafe");
+            Field f = c.getDeclaredField("theUnsafe");
+            f.setAccessible(true);
+            unsafe = f.get(null);
+            cleaner = c.getMethod("invokeCleaner", ByteBuffer.class);
+        } catch (ReflectiveOperationException | RuntimeException ex) {
+            unsafe = null;
+            cleaner = null;
+        }
+        UNSAFE = unsafe;
+        INVOKE_CLEANER = cleaner;
+    }
+
+    /**
+     * 요약 블록만 읽기(업무 목록은 안 건드림 → 앞부분 한 페이지만 매핑)
+     * v3 이전 파일이면 요약이 없으므로 null
+     *
+     * ✅ 매핑은 읽자마자 직접 해제(unmap)
+     *    → GC 기다리지 않음: 매핑이 남아 있으면 Windows에서 저장(ProjectStore의 파일 교체)이 막힘
+     *    → 해제할 방법이 없는 JVM이면 mmap 대신 FileChannel.read로 같은 앞부분만 읽음
+     */
+    static ProjectHeader read(File file) throws IOException {
+        try (FileChannel ch = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            long size = ch.size();
+            int first = (int) Math.min(size, MAP_SIZE);
+            ByteBuffer head = readRegion(ch, first);
+
+            // 요약이 첫 매핑보다 길면 그만큼 다시
+            if (head.remaining() >= FIXED_SIZE && head.getShort(4) >= 3) {
+                int len = head.getInt(FIXED_SIZE - 4);
+                if (len < 0 || len > size - FIXED_SIZE) throw new IOException("요약 블록이 깨졌습니다.");
+                if (FIXED_SIZE + len > first) head = readRegion(ch, FIXED_SIZE + len);
+            }
+            return read(head);
+        }
+    }
+
+    // 앞에서 size 바이트를 힙 버퍼로 복사해서 돌려줌(매핑은 여기서 바로 해제)
+    private static ByteBuffer readRegion(FileChannel ch, int size) throws IOException {
+        ByteBuffer copy = ByteBuffer.allocate(size);
+        if (INVOKE_CLEANER == null) {
+            ch.position(0);
+            while (copy.hasRemaining()) {
+                if (ch.read(copy) < 0) break;   // 파일 끝(잘린 파일은 read(ByteBuffer)에서 걸림)
+            }
+        } else if (size > 0) {
+            MappedByteBuffer map = ch.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            try {
+                copy.put(map);
+            } finally {
+                unmap(map);
+            }
+        }
+        copy.flip();
+        return copy;
+    }
+
+    private static void unmap(MappedByteBuffer map) {
+        try {
+            INVOKE_CLEANER.invoke(UNSAFE, map);
+        } catch (ReflectiveOperationException | RuntimeException ex) {
+            // 해제 실패 → GC 때 풀림(읽은 값은 이미 복사해 둠)
+        }
+    }
+
+    static ProjectHeader read(ByteBuffer buf) throws IOException {
+        try {
+            if (buf.getInt() != ProjectStore.MAGIC) throw new IOException("프로젝트 파일이 아닙니다.");
+            short version = buf.getShort();
+            if (version < 1 || version > ProjectStore.VERSION) throw new IOException("지원하지 않는 파일 버전: " + version);
+            if (version < 3) return null;
+
+            buf.getLong(); // 저널 세대
+            int len = buf.getInt();
+            int end = buf.position() + len;
+
+            String name = null;
+            int nameLen = buf.getInt();
+            if (nameLen >= 0) {
+                byte[] b = new byte[nameLen];
+                buf.get(b);
+                name = new String(b, StandardCharsets.UTF_8);
+            }
+
+            LocalDate start = ProjectStore.fromDay(buf.getInt());
+            LocalDate finish = ProjectStore.fromDay(buf.getInt());
+            LocalDate sim = ProjectStore.fromDay(buf.getInt());
+            int taskCount = buf.getInt();
+            int done = buf.getInt();
+            int blocked = buf.getInt();
+            int dueSoon = buf.getInt();
+            int delayed = buf.getInt();
+
+            if (buf.position() > end) throw new IOException("요약 블록이 깨졌습니다.");
+            return new ProjectHeader(name, start, finish, sim, taskCount, done, blocked, dueSoon, delayed);
+        } catch (BufferUnderflowException ex) {
+            throw new IOException("파일이 잘렸습니다.");
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package store;
+
+import data.Member;
+import data.Project;
+import data.ProjectSnapshot;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 스냅샷 파일에 쓸 내용을 한 번에 찍어 둔 것(만든 뒤 안 바뀜)
+ *
+ * ✅ EDT에서 of()로 찍고, 파일 쓰기(ProjectStore.save)는 저널 스레드에서
+ *    - 업무는 ProjectSnapshot(열 조각 공유) → 찍는 비용이 업무 수와 상관없음
+ *    - ProjectSnapshot에 없는 것(이름/기간/역할/팀원별 역할/요약)은 여기서 복사
+ *      (팀원 역할은 바뀔 수 있어서 목록째 복사, 팀원 수만큼이라 작음)
+ */
+final class ProjectImage {
+
+    final String name;
+    final LocalDate start;
+    final LocalDate end;
+    final List<String> roles;
+    final List<List<String>> memberRoles;   // snapshot.getMembers()와 같은 순서
+    final ProjectSnapshot snapshot;
+    final ProjectHeader header;
+
+    private ProjectImage(Project p) {
+        name = p.getProjectName();
+        start = p.getProjectStart();
+        end = p.getProjectEnd();
+        roles = Collections.unmodifiableList(new ArrayList<String>(p.getRoles()));
+        snapshot = p.snapshot();
+
+        List<List<String>> mr = new ArrayList<List<String>>(snapshot.getMembers().size());
+        for (Member m : snapshot.getMembers()) mr.add(m.getRoles());
+        memberRoles = Collections.unmodifiableList(mr);
+
+        header = ProjectHeader.of(p);
+    }
+
+    // EDT에서 호출(또는 아직 화면에 안 붙은 프로젝트)
+    static ProjectImage of(Project p) {
+        return new ProjectImage(p);
+    }
+}
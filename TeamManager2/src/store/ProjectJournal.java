@@ -0,0 +1,619 @@
+package store;
+
+import data.Member;
+import data.Project;
+import data.ProjectChangeListener;
+import data.Task;
+import data.TaskStatus;
+
+import java.awt.EventQueue;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+
+/**
+ * 프로젝트 변경 저널(추가 기록 전용, <프로젝트 파일>.journal)
+ *
+ * ✅ 바뀔 때마다 파일 전체를 다시 쓰지 않고, 바뀐 내용(이벤트)만 뒤에 붙임
+ *    - 이벤트는 메모리 버퍼에 모았다가 FLUSH_MS마다 한 번에 쓰고 force(디스크 동기화)
+ *    - 기록이 COMPACT_RECORDS개 넘으면 스냅샷(ProjectStore)을 새로 쓰고 저널 비우기
+ *      (EDT에서는 ProjectImage 찍기 + 대기 버퍼 자르기만, 파일 쓰기/동기화/교체는 저널 스레드에서)
+ *
+ * [헤더] magic(int) / 세대(long) ← 스냅샷 헤더의 저널 세대와 같을 때만 유효
+ * [기록] 길이(int) / 내용 / CRC32(int)  ← 마지막 기록이 잘렸거나 CRC가 틀리면 거기서 멈춤
+ *
+ * 압축 순서: 버퍼 비우기 → 스냅샷(세대+1) 동기화·교체 → 저널을 새 세대로 초기화
+ *   스냅샷 교체 직후에 죽으면 저널 세대가 하나 모자라므로 버려짐(이미 스냅샷에 반영됨)
+ *   백그라운드 압축: 찍은 시점 앞 기록(beforeCut)만 옛 저널에 쓰고, 그 뒤 기록(pending)은 새 저널에
+ *   압축이 실패하거나 그 전에 닫으면 자른 것을 다시 이어 붙여 전부 옛 저널에(옛 세대 유지)
+ *
+ * 쓰기 실패: 못 쓴 기록은 대기 버퍼 앞에 되돌려 두고 RETRY_MS 뒤 다시 시도,
+ *   사용자에게는 setErrorHandler로 받은 곳(EDT)에 한 번 알림(다시 성공하면 다음 실패 때 또 알림)
+ */
+public final class ProjectJournal implements ProjectChangeListener {
+
+    public static final String SUFFIX = ".journal";
+
+    static final int MAGIC = 0x544D4A4C; // "TMJL"
+    static final int HEADER_SIZE = 4 + 8;
+
+    private static final long FLUSH_MS = 200;
+    private static final long RETRY_MS = 2000;
+    private static final int COMPACT_RECORDS = 5000;
+
+    // 기록 종류
+    private static final byte TASK_ADDED = 1;
+    private static final byte TASK_REMOVED = 2;
+    private static final byte TASK_STATE = 3;
+    private static final byte TASK_DATES = 4;
+    private static final byte MEMBER_ADDED = 5;
+    private static final byte MEMBER_REMOVED = 6;
+    private static final byte MEMBER_ROLES = 7;
+    private static final byte ROLE_ADDED = 8;
+    private static final byte SIM_DATE = 9;
+
+    // 모든 저널이 같이 쓰는 백그라운드 쓰기 스레드
+    private static final ScheduledExecutorService FLUSHER =
+            Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread t = new Thread(r, "project-journal");
+                t.setDaemon(true);
+                return t;
+            });
+
+    // 저장 실패 알림 받을 곳(EDT에서 호출, 홈 화면이 설정)
+    private static volatile Consumer<String> errorHandler;
+
+    private final Project project;
+    private final File snapshot;
+    private final File file;
+    private final FileChannel channel;
+
+    private final Object ioLock = new Object();      // 파일 쓰기/압축
+    private final Object bufferLock = new Object();  // 대기 중인 기록
+
+    private long seq;
+    private ByteArrayOutputStream pending = new ByteArrayOutputStream();
+    private boolean flushScheduled = false;
+    private int records = 0;
+    private boolean compactQueued = false;
+    private ProjectImage compacting;                 // 백그라운드 압축 대기 중인 내용(없으면 null)
+    private ByteArrayOutputStream beforeCut;         // compacting을 찍기 전 기록(옛 저널에 쓸 것)
+    private volatile boolean closed = false;
+    private boolean failureReported = false;         // ioLock
+    private long tail = HEADER_SIZE;                 // ioLock, 마지막으로 온전히 쓴 기록의 끝(-1 = 헤더부터 다시)
+
+    // 기록 하나 만들 때 쓰는 임시 버퍼(이벤트는 EDT에서만 옴)
+    private final ByteArrayOutputStream scratch = new ByteArrayOutputStream(64);
+    private final DataOutputStream rec = new DataOutputStream(scratch);
+    private final CRC32 crc = new CRC32();
+
+    private ProjectJournal(Project project, File snapshot, FileChannel channel, long seq) {
+        this.project = project;
+        this.snapshot = snapshot;
+        this.file = journalFile(snapshot);
+        this.channel = channel;
+        this.seq = seq;
+    }
+
+    static File journalFile(File snapshot) {
+        return new File(snapshot.getPath() + SUFFIX);
+    }
+
+    public Project getProject() { return project; }
+
+    public static void setErrorHandler(Consumer<String> handler) {
+        errorHandler = handler;
+    }
+
+    private static void report(String message) {
+        Consumer<String> h = errorHandler;
+        if (h != null) EventQueue.invokeLater(() -> h.accept(message));
+    }
+
+    // ===================== 열기 =====================
+
+    // 새 프로젝트: 스냅샷을 처음 쓰고 빈 저널 연결
+    static ProjectJournal create(Project p, File snapshot) throws IOException {
+        ProjectStore.save(p, snapshot, 1L);
+        ProjectJournal j = new ProjectJournal(p, snapshot, openChannel(snapshot), 1L);
+        j.resetFile();
+        p.addChangeListener(j);
+        return j;
+    }
+
+    // 기존 프로젝트: 스냅샷 + 저널 이어서 적용
+    static ProjectJournal open(File snapshot) throws IOException {
+        ProjectStore.Stored stored = ProjectStore.loadStored(snapshot);
+        Project p = stored.project;
+
+        File jf = journalFile(snapshot);
+        int replayed = 0;
+        if (jf.isFile()) replayed = replay(p, Files.readAllBytes(jf.toPath()), stored.journalSeq);
+
+        ProjectJournal j = new ProjectJournal(p, snapshot, openChannel(snapshot), stored.journalSeq);
+        if (replayed > 0) {
+            // 적용한 내용은 스냅샷으로 옮기고 저널 비우기
+            j.compact();
+        } else {
+            j.resetFile();
+        }
+        p.addChangeListener(j);
+        return j;
+    }
+
+    private static FileChannel openChannel(File snapshot) throws IOException {
+        return FileChannel.open(journalFile(snapshot).toPath(),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+    }
+
+    // ===================== 압축/닫기 =====================
+
+    // 현재 상태를 스냅샷으로 쓰고 저널 비우기(EDT에서 호출, 다 쓸 때까지 기다림: 저장 버튼/종료용)
+    public void compact() throws IOException {
+        ProjectImage image = ProjectImage.of(project);
+        synchronized (ioLock) {
+            if (closed) return;
+            synchronized (bufferLock) {
+                uncut();    // 대기 중인 백그라운드 압축은 취소(이쪽이 더 최신)
+            }
+            compactLocked(image);
+            synchronized (bufferLock) {
+                records = 0;
+                compactQueued = false;
+            }
+        }
+    }
+
+    // EDT에서: 지금 상태만 찍고 대기 버퍼를 자른 뒤, 쓰기는 저널 스레드에 맡김
+    private void compactInBackground() {
+        ProjectImage image = ProjectImage.of(project);
+        synchronized (bufferLock) {
+            if (closed || compacting != null) return;
+            compacting = image;
+            beforeCut = pending;
+            pending = new ByteArrayOutputStream(256);
+            records = 0;
+        }
+        FLUSHER.execute(() -> {
+            synchronized (ioLock) {
+                synchronized (bufferLock) {
+                    if (closed || compacting != image) return;   // 그 사이 닫힘/직접 압축됨
+                }
+                try {
+                    compactLocked(image);
+                    synchronized (bufferLock) {
+                        compacting = null;
+                        beforeCut = null;
+                        compactQueued = false;
+                    }
+                } catch (IOException ex) {
+                    // 자른 기록을 다시 붙여서 옛 저널에 계속 씀, 다음 COMPACT_RECORDS 뒤 다시 시도
+                    synchronized (bufferLock) {
+                        uncut();
+                        compactQueued = false;
+                    }
+                    report("프로젝트 파일을 정리하지 못했습니다(" + snapshot.getName() + "): " + ex.getMessage());
+                }
+                flushOrRetry();     // 찍은 뒤 기록 → 새 저널(실패했으면 옛 저널)
+            }
+        });
+    }
+
+    // ioLock 잡은 상태에서만: 남은(찍기 전) 기록 쓰기 → 스냅샷 교체 → 저널 새 세대로
+    private void compactLocked(ProjectImage image) throws IOException {
+        flushLocked();
+        ProjectStore.save(image, snapshot, seq + 1);
+        seq++;
+        tail = -1;          // 초기화가 실패해도 다음 쓰기 전에 다시(옛 세대 헤더 뒤에 새 기록 X)
+        resetFile();
+    }
+
+    // bufferLock 잡은 상태에서만: 백그라운드 압축 취소 → 자른 앞부분을 대기 버퍼 앞에 되돌리기
+    private void uncut() {
+        if (compacting == null) return;
+        pending = prepend(beforeCut, pending);
+        beforeCut = null;
+        compacting = null;
+    }
+
+    private static ByteArrayOutputStream prepend(ByteArrayOutputStream front, ByteArrayOutputStream rest) {
+        ByteArrayOutputStream all = new ByteArrayOutputStream(front.size() + rest.size());
+        byte[] a = front.toByteArray();
+        byte[] b = rest.toByteArray();
+        all.write(a, 0, a.length);
+        all.write(b, 0, b.length);
+        return all;
+    }
+
+    public void close() throws IOException {
+        project.removeChangeListener(this);
+        synchronized (ioLock) {
+            if (closed) return;
+            try {
+                synchronized (bufferLock) {
+                    uncut();    // 아직 안 끝난 압축 → 전부 옛 저널에
+                }
+                flushLocked();
+            } finally {
+                closed = true;
+                channel.close();
+            }
+        }
+    }
+
+    // 닫고 저널 파일까지 삭제(프로젝트 삭제 시)
+    void discard() {
+        try {
+            close();
+        } catch (IOException ignore) {
+            // 어차피 지울 파일
+        }
+        if (file.exists() && !file.delete()) file.deleteOnExit();
+    }
+
+    private void resetFile() throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        header.putInt(MAGIC).putLong(seq).flip();
+        channel.truncate(0);
+        channel.position(0);
+        while (header.hasRemaining()) channel.write(header);
+        channel.force(true);    // 파일 크기(메타데이터)까지
+        tail = HEADER_SIZE;
+    }
+
+    // ===================== 쓰기 =====================
+
+    private void scheduleFlush(long delayMs) {
+        FLUSHER.schedule(() -> {
+            synchronized (ioLock) {
+                flushOrRetry();
+            }
+        }, delayMs, TimeUnit.MILLISECONDS);
+    }
+
+    // ioLock 잡은 상태에서만 호출
+    private void flushOrRetry() {
+        try {
+            flushLocked();
+        } catch (IOException ex) {
+            // 기록은 버퍼에 남아 있음 → 알리고(한 번만) 조금 있다가 다시
+            if (!failureReported) {
+                failureReported = true;
+                report("변경 내용을 저장하지 못했습니다(" + file.getName() + "): " + ex.getMessage()
+                        + "\n잠시 후 다시 시도합니다.");
+            }
+            synchronized (bufferLock) {
+                if (closed || flushScheduled) return;
+                flushScheduled = true;
+            }
+            scheduleFlush(RETRY_MS);
+        }
+    }
+
+    // ioLock 잡은 상태에서만 호출
+    // 백그라운드 압축 대기 중이면 찍기 전 기록(beforeCut)만 씀(찍은 뒤 기록은 새 저널에 들어가야 함)
+    private void flushLocked() throws IOException {
+        ByteArrayOutputStream out;
+        synchronized (bufferLock) {
+            flushScheduled = false;
+            boolean cut = compacting != null;
+            out = cut ? beforeCut : pending;
+            if (out.size() == 0) return;
+            if (cut) beforeCut = new ByteArrayOutputStream(256);
+            else pending = new ByteArrayOutputStream(Math.max(256, out.size()));
+        }
+        if (closed) return;
+
+        // 항상 마지막 온전한 기록 뒤(tail)에 씀 → 실패해서 반쯤 쓴 꼬리는 다음 쓰기가 덮어씀
+        try {
+            if (tail < 0) resetFile();
+            ByteBuffer buf = ByteBuffer.wrap(out.toByteArray());
+            channel.position(tail);
+            while (buf.hasRemaining()) channel.write(buf);
+            channel.force(false);
+            tail += out.size();
+            failureReported = false;
+        } catch (IOException ex) {
+            // 못 쓴 기록은 버퍼 앞에 되돌리기(다음 시도 때 같이 씀)
+            // 그 사이 EDT가 버퍼를 잘랐으면(압축 대기) 찍기 전 쪽(beforeCut) 앞에
+            synchronized (bufferLock) {
+                if (compacting != null) beforeCut = prepend(out, beforeCut);
+                else pending = prepend(out, pending);
+            }
+            throw ex;
+        }
+    }
+
+    private DataOutputStream begin(byte type) throws IOException {
+        scratch.reset();
+        rec.writeByte(type);
+        return rec;
+    }
+
+    // 길이 + 내용 + CRC로 감싸서 대기 버퍼에 붙이기
+    private void end() {
+        byte[] body = scratch.toByteArray();
+        crc.reset();
+        crc.update(body, 0, body.length);
+        int sum = (int) crc.getValue();
+
+        boolean needFlush;
+        boolean needCompact = false;
+        synchronized (bufferLock) {
+            if (closed) return;
+            writeInt(pending, body.length);
+            pending.write(body, 0, body.length);
+            writeInt(pending, sum);
+
+            needFlush = !flushScheduled;
+            flushScheduled = true;
+
+            records++;
+            if (records >= COMPACT_RECORDS && !compactQueued) {
+                compactQueued = true;
+                needCompact = true;
+            }
+        }
+        if (needFlush) scheduleFlush(FLUSH_MS);
+
+        // 지금 처리 중인 변경이 다 끝난 뒤에 찍기(쓰기는 저널 스레드)
+        if (needCompact) EventQueue.invokeLater(this::compactInBackground);
+    }
+
+    private static void writeInt(ByteArrayOutputStream out, int v) {
+        out.write(v >>> 24);
+        out.write(v >>> 16);
+        out.write(v >>> 8);
+        out.write(v);
+    }
+
+    // 메모리 스트림이라 IOException은 실제로 안 남
+    private static void fail(IOException ex) {
+        throw new IllegalStateException(ex);
+    }
+
+    // ===================== 이벤트 → 기록 =====================
+
+    @Override
+    public void taskAdded(Task t) {
+        try {
+            DataOutputStream out = begin(TASK_ADDED);
+            ProjectStore.writeString(out, t.getTitle());
+            ProjectStore.writeString(out, t.getCategory());
+            out.writeInt(project.getMembers().indexOf(t.getAssignee()));
+            out.writeByte(t.getDifficulty());
+            out.writeInt(ProjectStore.toDay(t.getPlanStart()));
+            out.writeInt(ProjectStore.toDay(t.getPlanEnd()));
+            out.writeInt(ProjectStore.toDay(t.getActualStart()));
+            out.writeInt(ProjectStore.toDay(t.getActualEnd()));
+            out.writeByte(t.getProgress());
+            out.writeByte(t.getStatus().ordinal());
+            end();
+        } catch (IOException ex) {
+            fail(ex);
+        }
+    }
+
+    @Override
+    public void taskRemoved(Task t, int index) {
+        try {
+            begin(TASK_REMOVED).writeInt(index);
+            end();
+        } catch (IOException ex) {
+            fail(ex);
+        }
+    }
+
+    @Override
+    public void progressChanged(Task t) {
+        writeTaskState(t);
+    }
+
+    @Override
+    public void statusChanged(Task t, TaskStatus oldStatus) {
+        // 진행률과 같이 바뀌면 두 번 기록되지만 같은 최종 상태라 다시 적용해도 결과 같음
+        writeTaskState(t);
+    }
+
+    private void writeTaskState(Task t) {
+        try {
+            DataOutputStream out = begin(TASK_STATE);
+            out.writeInt(project.indexOf(t));
+            out.writeByte(t.getProgress());
+            out.writeByte(t.getStatus().ordinal());
+            end();
+        } catch (IOException ex) {
+            fail(ex);
+        }
+    }
+
+    @Override
+    public void taskDatesChanged(Task t) {
+        try {
+            DataOutputStream out = begin(TASK_DATES);
+            out.writeInt(project.indexOf(t));
+            out.writeInt(ProjectStore.toDay(t.getActualStart()));
+            out.writeInt(ProjectStore.toDay(t.getActualEnd()));
+            end();
+        } catch (IOException ex) {
+            fail(ex);
+        }
+    }
+
+    @Override
+    public void memberAdded(Member m) {
+        try {
+            DataOutputStream out = begin(MEMBER_ADDED);
+            ProjectStore.writeString(out, m.getName());
+            writeRoles(out, m.getRoles());
+            end();
+        } catch (IOException ex) {
+            fail(ex);
+        }
+    }
+
+    @Override
+    public void memberRemoved(Member m, int index) {
+        try {
+            begin(MEMBER_REMOVED).writeInt(index);
+            end();
+        } catch (IOException ex) {
+            fail(ex);
+        }
+    }
+
+    @Override
+    public void memberChanged(Member m) {
+        try {
+            DataOutputStream out = begin(MEMBER_ROLES);
+            out.writeInt(project.getMembers().indexOf(m));
+            writeRoles(out, m.getRoles());
+            end();
+        } catch (IOException ex) {
+            fail(ex);
+        }
+    }
+
+    @Override
+    public void roleAdded(String role) {
+        try {
+            ProjectStore.writeString(begin(ROLE_ADDED), role);
+            end();
+        } catch (IOException ex) {
+            fail(ex);
+        }
+    }
+
+    @Override
+    public void simDateChanged(LocalDate simDate) {
+        try {
+            begin(SIM_DATE).writeInt(ProjectStore.toDay(simDate));
+            end();
+        } catch (IOException ex) {
+            fail(ex);
+        }
+    }
+
+    private static void writeRoles(DataOutputStream out, List<String> roles) throws IOException {
+        out.writeShort(roles.size());
+        for (String r : roles) ProjectStore.writeString(out, r);
+    }
+
+    private static List<String> readRoles(DataInputStream in) throws IOException {
+        int n = in.readShort();
+        List<String> roles = new ArrayList<String>(n);
+        for (int i = 0; i < n; i++) roles.add(ProjectStore.readString(in));
+        return roles;
+    }
+
+    // ===================== 다시 적용 =====================
+
+    // 적용한 기록 수 반환(세대가 다르거나 헤더가 깨졌으면 0 → 저널 무시)
+    static int replay(Project p, byte[] data, long expectedSeq) {
+        ByteBuffer buf = ByteBuffer.wrap(data);
+        if (buf.remaining() < HEADER_SIZE) return 0;
+        if (buf.getInt() != MAGIC) return 0;
+        if (buf.getLong() != expectedSeq) return 0;
+
+        CRC32 crc = new CRC32();
+        int applied = 0;
+        while (buf.remaining() >= 4) {
+            int len = buf.getInt();
+            if (len <= 0 || len + 4 > buf.remaining()) break;   // 잘린 꼬리
+
+            int start = buf.position();
+            crc.reset();
+            crc.update(data, start, len);
+            if ((int) crc.getValue() != buf.getInt(start + len)) break;
+
+            try {
+                apply(p, new DataInputStream(new ByteArrayInputStream(data, start, len)));
+            } catch (IOException | RuntimeException ex) {
+                break;
+            }
+            buf.position(start + len + 4);
+            applied++;
+        }
+        return applied;
+    }
+
+    private static void apply(Project p, DataInputStream in) throws IOException {
+        byte type = in.readByte();
+        switch (type) {
+            case TASK_ADDED: {
+                String title = ProjectStore.readString(in);
+                String category = ProjectStore.readString(in);
+                int a = in.readInt();
+                int difficulty = in.readByte();
+                LocalDate ps = ProjectStore.fromDay(in.readInt());
+                LocalDate pe = ProjectStore.fromDay(in.readInt());
+                LocalDate as = ProjectStore.fromDay(in.readInt());
+                LocalDate ae = ProjectStore.fromDay(in.readInt());
+                int progress = in.readByte();
+                int status = in.readByte();
+
+                List<Member> members = p.getMembers();
+                Member assignee = (a >= 0 && a < members.size()) ? members.get(a) : null;
+                Task t = new Task(title, category, assignee, difficulty, ps, pe);
+                t.setActualStart(as);
+                t.setActualEnd(ae);
+                ProjectStore.restoreProgress(t, progress, ProjectStore.status(status));
+                p.addTask(t);
+                break;
+            }
+            case TASK_REMOVED:
+                p.removeTask(p.getTasks().get(in.readInt()));
+                break;
+            case TASK_STATE: {
+                Task t = p.getTasks().get(in.readInt());
+                int progress = in.readByte();
+                ProjectStore.restoreProgress(t, progress, ProjectStore.status(in.readByte()));
+                break;
+            }
+            case TASK_DATES: {
+                Task t = p.getTasks().get(in.readInt());
+                t.setActualStart(ProjectStore.fromDay(in.readInt()));
+                t.setActualEnd(ProjectStore.fromDay(in.readInt()));
+                break;
+            }
+            case MEMBER_ADDED: {
+                Member m = new Member(ProjectStore.readString(in), "");
+                m.setRoles(readRoles(in));
+                p.addMember(m);
+                break;
+            }
+            case MEMBER_REMOVED:
+                p.removeMember(p.getMembers().get(in.readInt()));
+                break;
+            case MEMBER_ROLES: {
+                Member m = p.getMembers().get(in.readInt());
+                m.setRoles(readRoles(in));
+                break;
+            }
+            case ROLE_ADDED:
+                p.addRole(ProjectStore.readString(in));
+                break;
+            case SIM_DATE:
+                p.setSimDate(ProjectStore.fromDay(in.readInt()));
+                break;
+            default:
+                throw new EOFException("알 수 없는 기록: " + type);
+        }
+    }
+}
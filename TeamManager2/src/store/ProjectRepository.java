@@ -0,0 +1,120 @@
+package store;
+
+import data.Project;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 프로젝트 저장 폴더 관리
+ *
+ * - 프로젝트 하나 = 파일 하나(project-<생성시각>.tmproj)
+ * - 파일 이름 순서 = 만든 순서 → 홈 화면 목록 순서 유지
+ * - 시작할 때는 파일 요약(ProjectHeader)만 읽어서 목록 표시, 업무는 열 때 불러옴
+ * - 불러온 프로젝트마다 저널(ProjectJournal)이 붙어서 변경분은 바로바로 기록,
+ *   save()는 스냅샷을 새로 쓰고 저널을 비우는 것(압축)
+ */
+public class ProjectRepository {
+
+    public static final String EXT = ".tmproj";
+
+    private final File dir;
+    private final List<ProjectHandle> handles = new ArrayList<ProjectHandle>();
+
+    // 불러오기 실패한 파일(홈 화면에서 알림용)
+    private final List<String> loadErrors = new ArrayList<String>();
+
+    public ProjectRepository(File dir) {
+        this.dir = dir;
+    }
+
+    public List<ProjectHandle> loadAll() {
+        loadErrors.clear();
+        List<ProjectHandle> result = new ArrayList<ProjectHandle>();
+
+        File[] list = dir.listFiles((d, name) -> name.endsWith(EXT));
+        if (list == null) return result;
+        Arrays.sort(list);
+
+        for (File f : list) {
+            try {
+                ProjectHeader header = ProjectHeader.read(f);
+                ProjectHandle h = new ProjectHandle(f, header);
+                // 요약이 없는 옛 파일이나, 저널에 남은 기록(비정상 종료)이 있으면 요약이 최신이 아님 → 바로 불러오기
+                if (header == null || hasPendingJournal(f)) h.getProject();
+                handles.add(h);
+                result.add(h);
+            } catch (IOException | RuntimeException ex) {
+                loadErrors.add(f.getName() + ": " + ex.getMessage());
+            }
+        }
+        return result;
+    }
+
+    private static boolean hasPendingJournal(File snapshot) {
+        return ProjectJournal.journalFile(snapshot).length() > ProjectJournal.HEADER_SIZE;
+    }
+
+    public List<String> getLoadErrors() {
+        return new ArrayList<String>(loadErrors);
+    }
+
+    // 새 프로젝트 → 파일 만들고 저널 연결
+    public ProjectHandle add(Project p) throws IOException {
+        File f = newFile();
+        ProjectHandle h = new ProjectHandle(f, ProjectJournal.create(p, f));
+        handles.add(h);
+        return h;
+    }
+
+    // 안 불러온 프로젝트는 바뀐 게 없으니 그대로
+    public void save(ProjectHandle h) throws IOException {
+        if (h == null || !h.isLoaded()) return;
+        h.getJournal().compact();
+    }
+
+    public void delete(ProjectHandle h) {
+        if (h == null) return;
+        handles.remove(h);
+
+        if (h.isLoaded()) h.getJournal().discard();
+        else deleteFile(ProjectJournal.journalFile(h.getFile()));
+        deleteFile(h.getFile());
+    }
+
+    // 종료 시: 남은 기록 내려쓰고 저널 닫기, 실패한 파일 목록 반환(홈 화면에서 알림용)
+    public List<String> closeAll() {
+        List<String> errors = new ArrayList<String>();
+        for (ProjectHandle h : handles) {
+            if (!h.isLoaded()) continue;
+            try {
+                h.getJournal().close();
+            } catch (IOException ex) {
+                errors.add(h.getFile().getName() + ": " + ex.getMessage());
+            }
+        }
+        handles.clear();
+        return errors;
+    }
+
+    private static void deleteFile(File f) {
+        if (f.exists() && !f.delete()) f.deleteOnExit();
+    }
+
+    private File newFile() throws IOException {
+        if (!dir.isDirectory() && !dir.mkdirs()) {
+            throw new IOException("저장 폴더를 만들 수 없습니다: " + dir);
+        }
+
+        File f;
+        long stamp = System.currentTimeMillis();
+        do {
+            f = new File(dir, "project-" + stamp + EXT);
+            stamp++;
+        } while (f.exists());
+        return f;
+    }
+}
@@ -0,0 +1,340 @@
+package store;
+
+import data.Member;
+import data.Project;
+import data.Task;
+import data.TaskColumns;
+import data.TaskStatus;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 프로젝트 바이너리 저장 형식(Java 직렬화 사용 X)
+ *
+ * [헤더]     magic(int) / version(short) / 저널 세대(long, v2부터)
+ * [요약]     홈 화면용 요약(ProjectHeader, v3부터) ← 업무를 안 읽고도 목록 표시
+ * [문자열표] 개수 + (길이 + UTF-8 바이트)...  ← 이름/카테고리/역할/업무명은 전부 표 번호로 저장
+ * [프로젝트] 이름 / 시작 / 종료 / simDate
+ * [역할]     개수 + 문자열 번호...
+ * [팀원]     개수 + (이름, 역할 개수, 역할 번호...)...
+ * [업무]     개수 + (업무명, 카테고리, 담당자 번호, 난이도, 날짜 4개, 진행률, 상태)...
+ *
+ * 날짜는 epoch-day(int), 없으면 NO_DATE
+ * 저널 세대: 이 스냅샷 다음에 이어지는 저널(ProjectJournal) 번호. 번호가 다른 저널은 이미 반영된 것
+ */
+public final class ProjectStore {
+
+    public static final int MAGIC = 0x544D5052; // "TMPR"
+    public static final short VERSION = 3;
+
+    static final int NO_DATE = Task.NO_DATE;
+
+    private static final int BUF_SIZE = 1 << 16;
+
+    private ProjectStore() {}
+
+    // ===================== 저장 =====================
+
+    public static void save(Project p, File file) throws IOException {
+        save(p, file, 0L);
+    }
+
+    // 임시 파일에 다 쓴 다음 교체(중간에 죽어도 기존 파일은 그대로)
+    // ✅ 교체 전에 임시 파일 내용을, 교체 후에 폴더(이름 바뀐 것)를 디스크에 동기화
+    //    → 정전이 나도 "교체는 됐는데 내용은 빈 스냅샷"이 안 생김(저널 비우기는 이 다음에)
+    static void save(Project p, File file, long journalSeq) throws IOException {
+        save(ProjectImage.of(p), file, journalSeq);
+    }
+
+    // 찍어 둔 내용으로 저장(저널 압축: 찍기는 EDT, 쓰기는 저널 스레드)
+    static void save(ProjectImage img, File file, long journalSeq) throws IOException {
+        File tmp = new File(file.getPath() + ".tmp");
+        try (FileOutputStream fos = new FileOutputStream(tmp);
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(fos, BUF_SIZE))) {
+            write(img, out, journalSeq);
+            out.flush();
+            fos.getFD().sync();
+        }
+        replace(tmp, file);
+        syncDirectory(file.getAbsoluteFile().getParentFile());
+    }
+
+    // 폴더 동기화(Windows처럼 폴더를 못 여는 곳은 건너뜀)
+    private static void syncDirectory(File dir) {
+        if (dir == null) return;
+        try (FileChannel ch = FileChannel.open(dir.toPath(), StandardOpenOption.READ)) {
+            ch.force(true);
+        } catch (IOException ignore) {
+            // 지원 안 하는 플랫폼
+        }
+    }
+
+    private static void replace(File tmp, File file) throws IOException {
+        Files.move(tmp.toPath(), file.toPath(),
+                StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    // 업무 값은 스냅샷 열 배열에서(찍은 시점 값), 안 바뀌는 값(업무명/카테고리/담당자/난이도)만 Task에서
+    static void write(ProjectImage img, DataOutputStream out, long journalSeq) throws IOException {
+        List<Member> members = img.snapshot.getMembers();
+        List<Task> tasks = img.snapshot.getTasks();
+        TaskColumns cols = img.snapshot.getColumns();
+
+        // 1) 문자열표 만들기
+        StringTable strings = new StringTable();
+        strings.id(img.name);
+        for (String r : img.roles) strings.id(r);
+        for (int i = 0; i < members.size(); i++) {
+            strings.id(members.get(i).getName());
+            for (String r : img.memberRoles.get(i)) strings.id(r);
+        }
+        for (Task t : tasks) {
+            strings.id(t.getTitle());
+            strings.id(t.getCategory());
+        }
+
+        Map<Member, Integer> memberIndex = new IdentityHashMap<Member, Integer>();
+        for (int i = 0; i < members.size(); i++) memberIndex.put(members.get(i), i);
+
+        // 2) 헤더
+        out.writeInt(MAGIC);
+        out.writeShort(VERSION);
+        out.writeLong(journalSeq);
+        img.header.write(out);
+
+        // 3) 문자열표
+        out.writeInt(strings.list.size());
+        for (String s : strings.list) {
+            byte[] b = s.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(b.length);
+            out.write(b);
+        }
+
+        // 4) 프로젝트
+        out.writeInt(strings.id(img.name));
+        out.writeInt(toDay(img.start));
+        out.writeInt(toDay(img.end));
+        out.writeInt(toDay(img.snapshot.getSimDate()));
+
+        // 5) 역할
+        List<String> roles = img.roles;
+        out.writeInt(roles.size());
+        for (String r : roles) out.writeInt(strings.id(r));
+
+        // 6) 팀원
+        out.writeInt(members.size());
+        for (int i = 0; i < members.size(); i++) {
+            out.writeInt(strings.id(members.get(i).getName()));
+            List<String> mr = img.memberRoles.get(i);
+            out.writeShort(mr.size());
+            for (String r : mr) out.writeInt(strings.id(r));
+        }
+
+        // 7) 업무
+        out.writeInt(tasks.size());
+        for (int i = 0; i < tasks.size(); i++) {
+            Task t = tasks.get(i);
+            int ch = i >> TaskColumns.CHUNK_BITS;
+            int o = i & TaskColumns.CHUNK_MASK;
+            out.writeInt(strings.id(t.getTitle()));
+            out.writeInt(strings.id(t.getCategory()));
+            Integer a = (t.getAssignee() == null) ? null : memberIndex.get(t.getAssignee());
+            out.writeInt(a == null ? -1 : a);
+            out.writeByte(t.getDifficulty());
+            out.writeInt(cols.planStart()[ch][o]);
+            out.writeInt(cols.planEnd()[ch][o]);
+            out.writeInt(cols.actualStart()[ch][o]);
+            out.writeInt(cols.actualEnd()[ch][o]);
+            out.writeByte(cols.progress()[ch][o]);
+            out.writeByte(cols.status()[ch][o]);
+        }
+    }
+
+    // ===================== 불러오기 =====================
+
+    public static Project load(File file) throws IOException {
+        return loadStored(file).project;
+    }
+
+    static Stored loadStored(File file) throws IOException {
+        try (DataInputStream in = new DataInputStream(
+                new BufferedInputStream(new FileInputStream(file), BUF_SIZE))) {
+            return read(in);
+        }
+    }
+
+    static Stored read(DataInputStream in) throws IOException {
+        // 1) 헤더
+        if (in.readInt() != MAGIC) throw new IOException("프로젝트 파일이 아닙니다.");
+        short version = in.readShort();
+        if (version < 1 || version > VERSION) throw new IOException("지원하지 않는 파일 버전: " + version);
+        long journalSeq = (version >= 2) ? in.readLong() : 0L;
+        if (version >= 3) skipFully(in, in.readInt()); // 요약은 전체 불러올 땐 필요 없음
+
+        // 2) 문자열표
+        int n = in.readInt();
+        String[] strings = new String[n];
+        byte[] buf = new byte[256];
+        for (int i = 0; i < n; i++) {
+            int len = in.readInt();
+            if (len > buf.length) buf = new byte[Math.max(len, buf.length * 2)];
+            in.readFully(buf, 0, len);
+            strings[i] = new String(buf, 0, len, StandardCharsets.UTF_8);
+        }
+
+        // 3) 프로젝트
+        Project p = new Project();
+        p.setProjectName(str(strings, in.readInt()));
+        p.setProjectStart(fromDay(in.readInt()));
+        p.setProjectEnd(fromDay(in.readInt()));
+        p.setSimDate(fromDay(in.readInt()));
+
+        // 4) 역할
+        int roleCount = in.readInt();
+        for (int i = 0; i < roleCount; i++) p.addRole(str(strings, in.readInt()));
+
+        // 5) 팀원
+        int memberCount = in.readInt();
+        Member[] members = new Member[memberCount];
+        for (int i = 0; i < memberCount; i++) {
+            String name = str(strings, in.readInt());
+            int rc = in.readShort();
+            List<String> mr = new ArrayList<String>(rc);
+            for (int k = 0; k < rc; k++) mr.add(str(strings, in.readInt()));
+
+            Member m = new Member(name, "");
+            m.setRoles(mr);
+            // 이름 중복 검사 전에 저장된 옛 파일: 같은 이름은 먼저 나온 팀원 하나로 합침
+            if (!p.addMember(m)) m = p.findMemberByName(name);
+            members[i] = m;
+        }
+
+        // 6) 업무
+        int taskCount = in.readInt();
+        for (int i = 0; i < taskCount; i++) {
+            String title = str(strings, in.readInt());
+            String category = str(strings, in.readInt());
+            int a = in.readInt();
+            int difficulty = in.readByte();
+            LocalDate ps = fromDay(in.readInt());
+            LocalDate pe = fromDay(in.readInt());
+            LocalDate as = fromDay(in.readInt());
+            LocalDate ae = fromDay(in.readInt());
+            int progress = in.readByte();
+            int status = in.readByte();
+
+            Member assignee = (a >= 0 && a < members.length) ? members[a] : null;
+            Task t = new Task(title, category, assignee, difficulty, ps, pe);
+            t.setActualStart(as);
+            t.setActualEnd(ae);
+            restoreProgress(t, progress, status(status));
+            p.addTask(t);
+        }
+
+        return new Stored(p, journalSeq);
+    }
+
+    // 불러온 프로젝트 + 이어지는 저널 세대
+    static final class Stored {
+        final Project project;
+        final long journalSeq;
+
+        Stored(Project project, long journalSeq) {
+            this.project = project;
+            this.journalSeq = journalSeq;
+        }
+    }
+
+    // 진행률 먼저(상태 자동 결정) → 저장된 상태와 다르면 상태 덮어쓰기
+    static void restoreProgress(Task t, int progress, TaskStatus status) {
+        t.updateProgress(progress);
+        if (t.getStatus() != status) t.updateStatus(status);
+    }
+
+    // ===================== 공통 =====================
+
+    static void writeString(DataOutputStream out, String s) throws IOException {
+        if (s == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] b = s.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(b.length);
+        out.write(b);
+    }
+
+    static String readString(DataInputStream in) throws IOException {
+        int len = in.readInt();
+        if (len == -1) return null;
+        if (len < 0) throw new IOException("잘못된 문자열 길이: " + len);
+        byte[] b = new byte[len];
+        in.readFully(b);
+        return new String(b, StandardCharsets.UTF_8);
+    }
+
+    private static void skipFully(DataInputStream in, int n) throws IOException {
+        if (n < 0) throw new IOException("잘못된 요약 길이: " + n);
+        while (n > 0) {
+            int skipped = in.skipBytes(n);
+            if (skipped <= 0) throw new EOFException();
+            n -= skipped;
+        }
+    }
+
+    static int toDay(LocalDate d) {
+        return Task.toDay(d);
+    }
+
+    static LocalDate fromDay(int day) {
+        return Task.fromDay(day);
+    }
+
+    private static String str(String[] strings, int id) throws IOException {
+        if (id == -1) return null;
+        if (id < 0 || id >= strings.length) throw new IOException("잘못된 문자열 번호: " + id);
+        return strings[id];
+    }
+
+    // 저장된 상태 번호(ordinal) → TaskStatus, 범위 밖이면 깨진 파일
+    static TaskStatus status(int ordinal) throws IOException {
+        TaskStatus[] all = TaskStatus.values();
+        if (ordinal < 0 || ordinal >= all.length) throw new IOException("잘못된 상태 값: " + ordinal);
+        return all[ordinal];
+    }
+
+    // 문자열 → 번호(중복 제거), null은 -1
+    static final class StringTable {
+        final List<String> list = new ArrayList<String>();
+        private final Map<String, Integer> ids = new HashMap<String, Integer>();
+
+        int id(String s) {
+            if (s == null) return -1;
+            Integer id = ids.get(s);
+            if (id == null) {
+                id = list.size();
+                list.add(s);
+                ids.put(s, id);
+            }
+            return id;
+        }
+    }
+}
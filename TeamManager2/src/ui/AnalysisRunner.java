@@ -0,0 +1,82 @@
+package ui;
+
+import calc.ProjectStats;
+import data.Project;
+import data.ProjectSnapshot;
+
+import javax.swing.JOptionPane;
+import javax.swing.SwingWorker;
+import java.awt.Component;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Consumer;
+
+/**
+ * 프로젝트 분석(ProjectStats)을 EDT 밖에서 돌리고 결과만 EDT로 돌려주기
+ *
+ * ✅ 요청할 때 EDT에서 복사본(ProjectSnapshot)만 찍고, 계산은 SwingWorker 스레드에서
+ * ✅ 새 요청이 오면 아직 안 끝난 이전 계산은 취소(계산도 다음 열 조각에서 멈추고, 결과는 버림)
+ *    → 업무가 많아도 창이 안 멈추고, 화면에는 항상 마지막 요청 결과만 반영
+ *
+ * 계산이 실패하면 owner 위에 알림창(연속으로 실패하면 다시 성공할 때까지 한 번만)
+ *
+ * 화면(용도)마다 하나씩 만들어 씀, EDT에서만 사용
+ */
+public class AnalysisRunner {
+
+    private final Project project;
+    private final Component owner;
+    private SwingWorker<ProjectStats, Void> current;
+    private boolean failureShown = false;
+
+    public AnalysisRunner(Project project, Component owner) {
+        this.project = project;
+        this.owner = owner;
+    }
+
+    public void request(Consumer<ProjectStats> onResult) {
+        cancel();
+
+        ProjectSnapshot snapshot = project.snapshot();
+        SwingWorker<ProjectStats, Void> worker = new SwingWorker<ProjectStats, Void>() {
+            @Override
+            protected ProjectStats doInBackground() {
+                // 취소되면 다음 열 조각에서 멈춤(cancel(true)의 인터럽트만으론 계산이 안 멈춤)
+                return ProjectStats.of(snapshot, this::isCancelled);
+            }
+
+            @Override
+            protected void done() {
+                if (current != this) return;    // 그 사이 새 요청이 옴
+                current = null;
+                if (isCancelled()) return;
+                ProjectStats stats;
+                try {
+                    stats = get();
+                } catch (InterruptedException ex) {
+                    return;     // done()은 계산이 끝난 뒤라 실제로는 안 남
+                } catch (ExecutionException ex) {
+                    showFailure(ex.getCause() != null ? ex.getCause() : ex);
+                    return;
+                }
+                failureShown = false;
+                onResult.accept(stats);
+            }
+        };
+        current = worker;
+        worker.execute();
+    }
+
+    private void showFailure(Throwable cause) {
+        if (failureShown) return;
+        failureShown = true;
+        String msg = (cause.getMessage() != null) ? cause.getMessage() : cause.toString();
+        JOptionPane.showMessageDialog(owner, "분석 실패: " + msg, "분석 오류", JOptionPane.ERROR_MESSAGE);
+    }
+
+    public void cancel() {
+        if (current != null) {
+            current.cancel(true);
+            current = null;
+        }
+    }
+}
@@ -1,26 +1,26 @@
 package ui;
 
+import data.Member;
 import data.Project;
+import data.ProjectChangeListener;
 import data.Task;
 import data.TaskStatus;
 
 import javax.swing.*;
 import java.awt.*;
-import java.time.temporal.ChronoUnit;
+import java.time.LocalDate;
 
-public class BoardPanel extends JPanel {
+public class BoardPanel extends JPanel implements ProjectChangeListener {
     private final Project project;
     private final DataChangeListener listener;
 
-    private final DefaultListModel<Task> todoM = new DefaultListModel<Task>();
-    private final DefaultListModel<Task> doingM = new DefaultListModel<Task>();
-    private final DefaultListModel<Task> doneM = new DefaultListModel<Task>();
-    private final DefaultListModel<Task> blockedM = new DefaultListModel<Task>();
+    // ✅ 상태별 칸 모델(바뀐 카드만 옮김)
+    private final KanbanModel board;
 
-    private final JList<Task> todoL = new JList<Task>(todoM);
-    private final JList<Task> doingL = new JList<Task>(doingM);
-    private final JList<Task> doneL = new JList<Task>(doneM);
-    private final JList<Task> blockedL = new JList<Task>(blockedM);
+    private final JList<Task> todoL;
+    private final JList<Task> doingL;
+    private final JList<Task> doneL;
+    private final JList<Task> blockedL;
 
     private Task selected = null;
 
@@ -28,6 +28,12 @@ public class BoardPanel extends JPanel {
         this.project = project;
         this.listener = listener;
 
+        board = new KanbanModel(project);
+        todoL = new JList<Task>(board.column(TaskStatus.NOT_STARTED));
+        doingL = new JList<Task>(board.column(TaskStatus.IN_PROGRESS));
+        doneL = new JList<Task>(board.column(TaskStatus.DONE));
+        blockedL = new JList<Task>(board.column(TaskStatus.BLOCKED));
+
         setLayout(new BorderLayout(10, 10));
         add(buildBoard(), BorderLayout.CENTER);
         add(buildBottom(), BorderLayout.SOUTH);
@@ -112,19 +118,61 @@ public class BoardPanel extends JPanel {
     }
 
     public void refresh() {
-        todoM.clear();
-        doingM.clear();
-        doneM.clear();
-        blockedM.clear();
-
-        for (Task t : project.getTasks()) {
-            if (t.getStatus() == TaskStatus.DONE) doneM.addElement(t);
-            else if (t.getStatus() == TaskStatus.BLOCKED) blockedM.addElement(t);
-            else if (t.getStatus() == TaskStatus.IN_PROGRESS) doingM.addElement(t);
-            else todoM.addElement(t);
-        }
+        Task keep = selected;
+
+        // ✅ 상태 인덱스에서 칸별로 바로 채우기(칸마다 이벤트 2개)
+        board.reload();
+
+        // 선택했던 카드 다시 선택
+        if (keep != null && project.indexOf(keep) >= 0) listFor(keep.getStatus()).setSelectedValue(keep, true);
+    }
+
+    private JList<Task> listFor(TaskStatus st) {
+        if (st == TaskStatus.DONE) return doneL;
+        if (st == TaskStatus.BLOCKED) return blockedL;
+        if (st == TaskStatus.IN_PROGRESS) return doingL;
+        return todoL;
+    }
+
+    private void repaintLists() {
+        todoL.repaint();
+        doingL.repaint();
+        doneL.repaint();
+        blockedL.repaint();
+    }
+
+    // ===== Project 변경 이벤트(바뀐 카드만 반영) =====
+    @Override
+    public void taskAdded(Task t) {
+        board.add(t);
     }
 
+    @Override
+    public void taskRemoved(Task t, int index) {
+        board.remove(t, index);
+        if (selected == t) selected = null;
+    }
+
+    @Override
+    public void statusChanged(Task t, TaskStatus oldStatus) {
+        boolean wasSelected = (selected == t);
+        board.move(t);
+
+        // 옮긴 카드 선택 유지
+        if (wasSelected) listFor(t.getStatus()).setSelectedValue(t, true);
+    }
+
+    @Override
+    public void progressChanged(Task t) {
+        board.changed(t);
+    }
+
+    @Override
+    public void memberChanged(Member m) { repaintLists(); }
+
+    @Override
+    public void simDateChanged(LocalDate simDate) { repaintLists(); }
+
     private class TaskRenderer extends DefaultListCellRenderer {
         @Override
         public Component getListCellRendererComponent(JList<?> list, Object value, int index,
@@ -133,15 +181,16 @@ public class BoardPanel extends JPanel {
             if (value instanceof Task) {
                 Task t = (Task) value;
 
-                // ✅ getDeadline() -> getPlanEnd()
-                long d = ChronoUnit.DAYS.between(project.getSimDate(), t.getPlanEnd());
+                // ✅ getDeadline() -> getPlanEnd(), epoch-day 정수로 바로 계산
+                int sim = Task.toDay(project.getSimDate());
+                long d = (long) t.getPlanEndDay() - sim;
 
-                int exp = t.getExpectedProgress(project.getSimDate());
-                int delta = t.getScheduleDelta(project.getSimDate());
+                int exp = t.getExpectedProgress(sim);
+                int delta = t.getScheduleDelta(sim);
                 String s = (delta < 0) ? (" / 늦음 " + (-delta) + "%") : (delta > 0 ? (" / 빠름 " + delta + "%") : "");
 
                 setText(t.getTitle()
-                        + " / " + t.getAssignee().getName()
+                        + " / " + t.getAssigneeName()
                         + " / D-" + d
                         + " / 현재 " + t.getProgress() + "% (예상 " + exp + "%)"
                         + s);
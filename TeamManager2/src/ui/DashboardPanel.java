@@ -1,18 +1,20 @@
 package ui;
 
-import calc.Analyzer;
+import calc.ProjectStats;
 import data.Member;
 import data.Project;
+import data.ProjectChangeListener;
 import data.Task;
+import data.TaskStatus;
 
 import javax.swing.*;
 import javax.swing.table.DefaultTableModel;
 import java.awt.*;
-import java.util.LinkedHashMap;
-import java.util.Map;
+import java.time.LocalDate;
 
-public class DashboardPanel extends JPanel {
+public class DashboardPanel extends JPanel implements ProjectChangeListener {
     private final Project project;
+    private final RefreshScheduler refresher;
 
     private final JLabel dateLabel = new JLabel();
     private final JLabel scheduleLabel = new JLabel(); // ✅ 팀 전체 계획 대비
@@ -29,15 +31,21 @@ public class DashboardPanel extends JPanel {
     );
     private final JTable memberPlanTable = new JTable(memberPlanModel);
 
-    public DashboardPanel(Project project) {
+    // ✅ 집계는 백그라운드에서(새로 요청하면 이전 건 취소)
+    private final AnalysisRunner analysis;
+
+    public DashboardPanel(Project project, RefreshScheduler refresher) {
         this.project = project;
+        this.refresher = refresher;
+        this.analysis = new AnalysisRunner(project, this);
         setLayout(new BorderLayout(10, 10));
 
         add(buildTop(), BorderLayout.NORTH);
         add(buildCenter(), BorderLayout.CENTER);
         add(buildBottom(), BorderLayout.SOUTH);
 
-        refresh();
+        // 화면에 붙어서 보일 때 첫 집계(안 보이는 동안은 분석 안 돌림)
+        scheduleRefresh();
     }
 
     private JComponent buildTop() {
@@ -88,35 +96,28 @@ public class DashboardPanel extends JPanel {
         teamBar.setValue(project.getTeamProgress());
         teamBar.setString(project.getTeamProgress() + "%");
 
-        int projDelta = Analyzer.calcProjectScheduleDelta(project);
+        // ✅ 업무 전체를 한 번만 훑은 집계(팀 델타/카테고리/팀원별 전부 여기서)
+        analysis.request(this::showStats);
+    }
+
+    private void showStats(ProjectStats stats) {
+        int projDelta = stats.getScheduleDelta();
         if (projDelta < 0) scheduleLabel.setText((-projDelta) + "% 늦음");
         else if (projDelta > 0) scheduleLabel.setText(projDelta + "% 빠름");
         else scheduleLabel.setText("비슷");
 
         // 카테고리별 평균 진행률
-        Map<String, int[]> map = new LinkedHashMap<String, int[]>();
-        for (Task t : project.getTasks()) {
-            String cat = t.getCategory();
-            if (!map.containsKey(cat)) map.put(cat, new int[]{0, 0});
-            map.get(cat)[0] += t.getProgress();
-            map.get(cat)[1] += 1;
-        }
-
         roleModel.setRowCount(0);
-        for (String cat : map.keySet()) {
-            int sum = map.get(cat)[0];
-            int cnt = map.get(cat)[1];
-            int avg = (cnt == 0) ? 0 : Math.round((float) sum / cnt);
-            roleModel.addRow(new Object[]{cat, avg + "%"});
+        for (String c : stats.getCategories()) {
+            roleModel.addRow(new Object[]{c, stats.getCategoryAverage(c) + "%"});
         }
 
         // 팀원별 계획 대비
         memberPlanModel.setRowCount(0);
         for (Member m : project.getMembers()) {
-            int taskCount = 0;
-            for (Task t : project.getTasks()) if (t.getAssignee() == m) taskCount++;
+            int taskCount = stats.getMemberTaskCount(m);
 
-            int delta = Analyzer.calcMemberScheduleDelta(project, m);
+            int delta = stats.getMemberScheduleDelta(m);
             String s;
             if (delta < 0) s = (-delta) + "% 늦음";
             else if (delta > 0) s = delta + "% 빠름";
@@ -125,4 +126,18 @@ public class DashboardPanel extends JPanel {
             memberPlanModel.addRow(new Object[]{m.getName(), taskCount, s});
         }
     }
+
+    // 연속 변경은 한 번으로 묶고, 안 보이면 보일 때 갱신
+    private void scheduleRefresh() {
+        refresher.request(this, this::refresh);
+    }
+
+    // ===== Project 변경 이벤트(집계 화면이라 업무/팀원/날짜 변경 모두 반영) =====
+    @Override public void taskAdded(Task t) { scheduleRefresh(); }
+    @Override public void taskRemoved(Task t, int index) { scheduleRefresh(); }
+    @Override public void progressChanged(Task t) { scheduleRefresh(); }
+    @Override public void statusChanged(Task t, TaskStatus oldStatus) { scheduleRefresh(); }
+    @Override public void memberAdded(Member m) { scheduleRefresh(); }
+    @Override public void memberRemoved(Member m, int index) { scheduleRefresh(); }
+    @Override public void simDateChanged(LocalDate simDate) { scheduleRefresh(); }
 }
@@ -1,15 +1,25 @@
 package ui;
 
+import data.IntervalIndex;
 import data.Project;
 import data.Task;
 
 import javax.swing.*;
 import java.awt.*;
+import java.awt.event.MouseEvent;
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
 import java.util.List;
 
+/**
+ * 간트차트
+ *
+ * ✅ 업무마다 컴포넌트를 만들지 않고 paintComponent에서 직접 그림
+ * ✅ 스크롤 뷰포트(클립 영역)에 걸친 줄/날짜만 그려서
+ *    업무 수가 많아도 그리는 비용은 화면 크기만큼만 듦
+ * ✅ 툴팁은 마우스 y좌표 → 줄 번호로 바로 찾음
+ */
 public class GanttPanel extends JPanel {
 
     private enum Mode { PLAN, ACTUAL }
@@ -24,16 +34,23 @@ public class GanttPanel extends JPanel {
     private final int leftLabelW = 210;    // 왼쪽 "업무명" 영역 폭
     private final int topPad = 50;         // 위 여백
     private final int leftPad = 10;        // 좌측 여백
+    private final int missW = 110;         // 날짜 미입력 박스 폭
 
     private final JLabel infoLabel = new JLabel();
 
     private final JRadioButton planBtn = new JRadioButton("계획", true);
     private final JRadioButton actualBtn = new JRadioButton("실제");
 
-    // 바들을 올려놓는 캔버스(절대배치)
-    private final JPanel canvas = new JPanel(null);
+    // 직접 그리는 캔버스
+    private final GanttCanvas canvas = new GanttCanvas();
     private final JScrollPane scroll = new JScrollPane(canvas);
 
+    // refresh()에서 계산해두는 그리기 상태
+    private LocalDate base;
+    private LocalDate end;
+    private long totalDays = 0;
+    private List<Task> rows = new ArrayList<Task>();
+
     // 카테고리 -> 색 매핑(고정되게)
     private final Map<String, Color> colorMap = new HashMap<String, Color>();
     private final Color[] palette = new Color[]{
@@ -46,16 +63,19 @@ public class GanttPanel extends JPanel {
             new Color(230, 230, 230)
     };
 
+    private static final Color GRID_COLOR = new Color(235, 235, 235);
+    private static final Color BORDER_COLOR = new Color(120, 120, 120);
+    private static final Color MISSING_COLOR = new Color(220, 220, 220);
+
     public GanttPanel(Project project) {
         this.project = project;
 
         setLayout(new BorderLayout(10, 10));
-        setBorder(BorderFactory.createTitledBorder("간트차트 (네모 패널 버전)"));
+        setBorder(BorderFactory.createTitledBorder("간트차트"));
 
         add(buildTop(), BorderLayout.NORTH);
         add(scroll, BorderLayout.CENTER);
 
-        canvas.setBackground(Color.WHITE);
         scroll.getHorizontalScrollBar().setUnitIncrement(16);
         scroll.getVerticalScrollBar().setUnitIncrement(16);
 
@@ -86,12 +106,14 @@ public class GanttPanel extends JPanel {
     }
 
     // 외부(ProjectFrame)에서 데이터 바뀌면 호출해주면 됨
+    // → 정렬/크기 계산만 하고 실제 그리기는 paintComponent에서
     public void refresh() {
-        canvas.removeAll();
+        base = project.getProjectStart();
+        end = project.getProjectEnd();
+        rows = new ArrayList<Task>();
 
-        LocalDate base = project.getProjectStart();
-        LocalDate end = project.getProjectEnd();
         if (base == null || end == null) {
+            totalDays = 0;
             infoLabel.setText("프로젝트 시작/종료 날짜가 없습니다.");
             canvas.setPreferredSize(new Dimension(600, 300));
             canvas.revalidate();
@@ -103,129 +125,79 @@ public class GanttPanel extends JPanel {
             LocalDate tmp = base; base = end; end = tmp;
         }
 
-        long totalDays = ChronoUnit.DAYS.between(base, end) + 1; // inclusive
+        totalDays = ChronoUnit.DAYS.between(base, end) + 1; // inclusive
         if (totalDays <= 0) totalDays = 1;
 
         infoLabel.setText("프로젝트 기간: " + base + " ~ " + end + " (총 " + totalDays + "일) / 현재 모드: " + (mode==Mode.PLAN ? "계획" : "실제"));
 
         // 업무 정렬(시작일 기준으로 보기 좋게)
-        List<Task> list = new ArrayList<Task>(project.getTasks());
-        Collections.sort(list, new Comparator<Task>() {
-            @Override
-            public int compare(Task a, Task b) {
-                LocalDate as = (mode == Mode.PLAN) ? a.getPlanStart() : a.getActualStart();
-                LocalDate bs = (mode == Mode.PLAN) ? b.getPlanStart() : b.getActualStart();
-                if (as == null && bs == null) return 0;
-                if (as == null) return 1;
-                if (bs == null) return -1;
-                return as.compareTo(bs);
-            }
-        });
+        // ✅ 인덱스가 이미 시작일 순(시작일 없는 업무는 맨 뒤)이라 정렬 없이 꺼내기만
+        IntervalIndex ranges = (mode == Mode.PLAN) ? project.getPlanRanges() : project.getActualRanges();
+        rows.addAll(ranges.sortedByStart());
 
         // 캔버스 크기(가로: 왼쪽 라벨 + 날짜폭)
-        int timelineW = (int) (totalDays * pxPerDay);
-        int totalW = leftLabelW + leftPad + timelineW + 40;
-        int totalH = topPad + Math.max(1, list.size()) * rowH + 40;
+        int totalW = timelineX() + timelineW() + 40;
+        int totalH = topPad + Math.max(1, rows.size()) * rowH + 40;
 
         canvas.setPreferredSize(new Dimension(totalW, totalH));
+        canvas.revalidate();
+        canvas.repaint();
+    }
 
-        // 간단한 날짜 헤더(텍스트만)
-        JLabel startLbl = new JLabel(base.toString());
-        startLbl.setBounds(leftLabelW + leftPad, 10, 120, 20);
-        canvas.add(startLbl);
-
-        JLabel endLbl = new JLabel(end.toString());
-        endLbl.setBounds(leftLabelW + leftPad + timelineW - 120, 10, 120, 20);
-        canvas.add(endLbl);
-
-        // 아주 단순한 "눈금" (7일마다 얇은 선)
-        for (int d = 0; d <= totalDays; d += 7) {
-            int x = leftLabelW + leftPad + d * pxPerDay;
-            JPanel line = new JPanel();
-            line.setBackground(new Color(235, 235, 235));
-            line.setBounds(x, 35, 1, totalH - 60);
-            canvas.add(line);
-        }
-
-        if (list.isEmpty()) {
-            JLabel none = new JLabel("업무가 없습니다. (Team/Task에서 업무를 등록하세요)");
-            none.setBounds(20, topPad, 500, 25);
-            canvas.add(none);
-            canvas.revalidate();
-            canvas.repaint();
-            return;
-        }
-
-        // 바 생성
-        int row = 0;
-        for (Task t : list) {
-            int y = topPad + row * rowH;
-
-            // 왼쪽 라벨(담당자/업무명)
-            JLabel leftLabel = new JLabel(t.getAssignee().getName() + " / " + t.getTitle());
-            leftLabel.setBounds(10, y, leftLabelW - 20, barH);
-            canvas.add(leftLabel);
-
-            LocalDate s = (mode == Mode.PLAN) ? t.getPlanStart() : t.getActualStart();
-            LocalDate e = (mode == Mode.PLAN) ? t.getPlanEnd() : t.getActualEnd();
-
-            // 날짜 미입력이면 회색 박스만
-            if (s == null || e == null) {
-                JPanel miss = makeBarPanel("미입력(" + t.getCategory() + ")", new Color(220,220,220));
-                miss.setBounds(leftLabelW + leftPad, y, 110, barH);
-                miss.setToolTipText(t.getTitle() + " / " + t.getCategory() + " / 날짜 미입력");
-                canvas.add(miss);
-                row++;
-                continue;
-            }
-
-            if (e.isBefore(s)) {
-                // 학생식: 잘못 넣으면 swap
-                LocalDate tmp = s; s = e; e = tmp;
-            }
-
-            long startOff = ChronoUnit.DAYS.between(base, s);
-            long endOff = ChronoUnit.DAYS.between(base, e);
-
-            // 범위 밖이면 잘라서 보여주기(초보자식 clamp)
-            startOff = Math.max(0, Math.min(totalDays - 1, startOff));
-            endOff = Math.max(0, Math.min(totalDays - 1, endOff));
-            if (endOff < startOff) endOff = startOff;
+    private LocalDate startOf(Task t) { return (mode == Mode.PLAN) ? t.getPlanStart() : t.getActualStart(); }
+    private LocalDate endOf(Task t) { return (mode == Mode.PLAN) ? t.getPlanEnd() : t.getActualEnd(); }
 
-            int x = leftLabelW + leftPad + (int) startOff * pxPerDay;
-            int w = (int) ((endOff - startOff + 1) * pxPerDay);
-            if (w < 10) w = 10;
+    private int timelineX() { return leftLabelW + leftPad; }
+    private int timelineW() { return (int) (totalDays * pxPerDay); }
 
-            Color c = colorForCategory(t.getCategory());
-            JPanel bar = makeBarPanel(t.getCategory(), c);
-            bar.setBounds(x, y, w, barH);
+    private int rowY(int row) { return topPad + row * rowH; }
 
-            String tip = t.getTitle()
-                    + " / " + t.getAssignee().getName()
-                    + " / " + t.getCategory()
-                    + " / " + s + " ~ " + e
-                    + " (" + (endOff - startOff + 1) + "일)";
-            bar.setToolTipText(tip);
+    // y좌표 → 줄 번호(없으면 -1)
+    private int rowAt(int y) {
+        if (y < topPad) return -1;
+        int row = (y - topPad) / rowH;
+        if (row >= rows.size()) return -1;
+        if (y - rowY(row) >= barH) return -1; // 줄 사이 여백
+        return row;
+    }
 
-            canvas.add(bar);
+    // 바 영역(날짜 미입력이면 회색 박스 영역)
+    private Rectangle barBounds(Task t, int row) {
+        int y = rowY(row);
+        LocalDate s = startOf(t);
+        LocalDate e = endOf(t);
+        if (s == null || e == null) return new Rectangle(timelineX(), y, missW, barH);
 
-            row++;
+        if (e.isBefore(s)) {
+            // 학생식: 잘못 넣으면 swap
+            LocalDate tmp = s; s = e; e = tmp;
         }
 
-        canvas.revalidate();
-        canvas.repaint();
-    }
+        long startOff = ChronoUnit.DAYS.between(base, s);
+        long endOff = ChronoUnit.DAYS.between(base, e);
 
-    private JPanel makeBarPanel(String text, Color bg) {
-        JPanel p = new JPanel(new BorderLayout());
-        p.setBackground(bg);
-        p.setBorder(BorderFactory.createLineBorder(new Color(120,120,120)));
+        // 범위 밖이면 잘라서 보여주기(초보자식 clamp)
+        startOff = Math.max(0, Math.min(totalDays - 1, startOff));
+        endOff = Math.max(0, Math.min(totalDays - 1, endOff));
+        if (endOff < startOff) endOff = startOff;
 
-        JLabel lbl = new JLabel(" " + text);
-        lbl.setFont(lbl.getFont().deriveFont(Font.BOLD, 12f));
-        p.add(lbl, BorderLayout.CENTER);
+        int x = timelineX() + (int) startOff * pxPerDay;
+        int w = (int) ((endOff - startOff + 1) * pxPerDay);
+        if (w < 10) w = 10;
+        return new Rectangle(x, y, w, barH);
+    }
 
-        return p;
+    private String tooltipFor(Task t) {
+        LocalDate s = startOf(t);
+        LocalDate e = endOf(t);
+        if (s == null || e == null) return t.getTitle() + " / " + t.getCategory() + " / 날짜 미입력";
+        if (e.isBefore(s)) { LocalDate tmp = s; s = e; e = tmp; }
+
+        return t.getTitle()
+                + " / " + t.getAssigneeName()
+                + " / " + t.getCategory()
+                + " / " + s + " ~ " + e
+                + " (" + (ChronoUnit.DAYS.between(s, e) + 1) + "일)";
     }
 
     private Color colorForCategory(String cat) {
@@ -241,4 +213,122 @@ public class GanttPanel extends JPanel {
         colorMap.put(cat, c);
         return c;
     }
-}
\ No newline at end of file
+
+    // ===== 직접 그리는 캔버스 =====
+    private class GanttCanvas extends JComponent {
+        private static final long serialVersionUID = 1L;
+
+        GanttCanvas() {
+            setOpaque(true);
+            ToolTipManager.sharedInstance().registerComponent(this);
+        }
+
+        @Override
+        public String getToolTipText(MouseEvent e) {
+            int row = rowAt(e.getY());
+            if (row < 0) return null;
+            Task t = rows.get(row);
+            return barBounds(t, row).contains(e.getPoint()) ? tooltipFor(t) : null;
+        }
+
+        @Override
+        protected void paintComponent(Graphics g) {
+            Rectangle clip = g.getClipBounds();
+            if (clip == null) clip = new Rectangle(0, 0, getWidth(), getHeight());
+
+            g.setColor(Color.WHITE);
+            g.fillRect(clip.x, clip.y, clip.width, clip.height);
+
+            if (base == null || end == null) return;
+
+            Graphics2D g2 = (Graphics2D) g.create();
+            try {
+                g2.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+                paintGrid(g2, clip);
+                paintHeader(g2);
+
+                if (rows.isEmpty()) {
+                    g2.setColor(Color.DARK_GRAY);
+                    g2.drawString("업무가 없습니다. (Team/Task에서 업무를 등록하세요)", 20, topPad + 17);
+                    return;
+                }
+                paintRows(g2, clip);
+            } finally {
+                g2.dispose();
+            }
+        }
+
+        // 아주 단순한 "눈금" (7일마다 얇은 선) - 보이는 날짜 구간만
+        private void paintGrid(Graphics2D g2, Rectangle clip) {
+            int x0 = timelineX();
+            int fromDay = Math.max(0, (clip.x - x0) / pxPerDay);
+            fromDay -= fromDay % 7;
+            int toDay = (int) Math.min(totalDays, (clip.x + clip.width - x0) / pxPerDay + 1);
+
+            g2.setColor(GRID_COLOR);
+            int gridBottom = getHeight() - 25;
+            for (int d = fromDay; d <= toDay; d += 7) {
+                int x = x0 + d * pxPerDay;
+                g2.drawLine(x, 35, x, gridBottom);
+            }
+        }
+
+        // 간단한 날짜 헤더(시작/종료 날짜 텍스트)
+        private void paintHeader(Graphics2D g2) {
+            g2.setColor(Color.BLACK);
+            g2.setFont(getFont());
+            FontMetrics fm = g2.getFontMetrics();
+            int y = 10 + fm.getAscent();
+            g2.drawString(base.toString(), timelineX(), y);
+            g2.drawString(end.toString(), timelineX() + timelineW() - 120, y);
+        }
+
+        // 보이는 줄만 그리기
+        private void paintRows(Graphics2D g2, Rectangle clip) {
+            int first = Math.max(0, (clip.y - topPad) / rowH);
+            int last = Math.min(rows.size() - 1, (clip.y + clip.height - topPad) / rowH);
+
+            Font labelFont = getFont();
+            Font barFont = labelFont.deriveFont(Font.BOLD, 12f);
+            FontMetrics labelFm = g2.getFontMetrics(labelFont);
+            FontMetrics barFm = g2.getFontMetrics(barFont);
+
+            for (int row = first; row <= last; row++) {
+                Task t = rows.get(row);
+                int y = rowY(row);
+
+                // 왼쪽 라벨(담당자/업무명)
+                if (clip.x < leftLabelW) {
+                    g2.setFont(labelFont);
+                    g2.setColor(Color.BLACK);
+                    drawClipped(g2, t.getAssigneeName() + " / " + t.getTitle(),
+                            10, y, leftLabelW - 20, labelFm);
+                }
+
+                Rectangle r = barBounds(t, row);
+                if (!r.intersects(clip)) continue;
+
+                boolean missing = (startOf(t) == null || endOf(t) == null);
+                g2.setColor(missing ? MISSING_COLOR : colorForCategory(t.getCategory()));
+                g2.fillRect(r.x, r.y, r.width, r.height);
+                g2.setColor(BORDER_COLOR);
+                g2.drawRect(r.x, r.y, r.width - 1, r.height - 1);
+
+                g2.setFont(barFont);
+                g2.setColor(Color.BLACK);
+                String text = missing ? "미입력(" + t.getCategory() + ")" : t.getCategory();
+                drawClipped(g2, " " + text, r.x + 1, r.y, r.width - 2, barFm);
+            }
+        }
+
+        // 폭을 넘는 글자는 잘라서 그리기(JLabel처럼 세로 가운데)
+        private void drawClipped(Graphics2D g2, String text, int x, int y, int w, FontMetrics fm) {
+            if (text == null || w <= 0) return;
+            Shape old = g2.getClip();
+            g2.clipRect(x, y, w, barH);
+            int baseline = y + (barH - fm.getHeight()) / 2 + fm.getAscent();
+            g2.drawString(text, x, baseline);
+            g2.setClip(old);
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package ui;
+
+import data.Project;
+import data.Task;
+import data.TaskStatus;
+
+import javax.swing.AbstractListModel;
+import javax.swing.ListModel;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 칸반 보드 모델(상태별 칸 = JList 모델 하나씩)
+ *
+ * ✅ 칸마다 업무 목록 순서(Task.index)로 정렬해서 보관 → 카드 위치는 이진 탐색
+ * ✅ 업무 → 지금 들어있는 칸(IdentityHashMap)
+ *    → 상태가 바뀌면 그 카드만 옛 칸에서 빼고 새 칸에 끼움(이벤트 1개씩, 나머지 카드는 그대로)
+ *    → 진행률만 바뀌면 그 줄만 다시 그림
+ *
+ * EDT에서만 사용(Project 변경 이벤트에서 호출)
+ */
+public class KanbanModel {
+
+    private final Project project;
+    private final Map<TaskStatus, Column> columns = new EnumMap<TaskStatus, Column>(TaskStatus.class);
+    private final Map<Task, Column> columnOf = new IdentityHashMap<Task, Column>();
+
+    public KanbanModel(Project project) {
+        this.project = project;
+        for (TaskStatus st : TaskStatus.values()) columns.put(st, new Column());
+    }
+
+    public ListModel<Task> column(TaskStatus st) { return columns.get(st); }
+
+    // 전체 다시 채우기(처음/새로고침): 칸마다 이벤트 2개(비우기/채우기)
+    public void reload() {
+        columnOf.clear();
+        for (TaskStatus st : TaskStatus.values()) {
+            List<Task> items = new ArrayList<Task>(project.getTasksByStatus(st));   // 이미 목록 순서
+            Column c = columns.get(st);
+            c.replaceAll(items);
+            for (Task t : items) columnOf.put(t, c);
+        }
+    }
+
+    public void add(Task t) {
+        Column c = columns.get(t.getStatus());
+        c.insert(t);
+        columnOf.put(t, c);
+    }
+
+    // index = 지워지기 전 목록 위치(이미 t.index는 -1, 뒤 업무들은 한 칸씩 당겨진 상태)
+    public void remove(Task t, int index) {
+        Column c = columnOf.remove(t);
+        if (c != null) c.removeDetached(t, index);
+    }
+
+    // 상태 변경: 옛 칸에서 빼고 새 칸 제자리에 넣기
+    public void move(Task t) {
+        Column from = columnOf.get(t);
+        Column to = columns.get(t.getStatus());
+        if (from == to) {
+            changed(t);
+            return;
+        }
+        if (from != null) from.remove(t);
+        to.insert(t);
+        columnOf.put(t, to);
+    }
+
+    // 카드 내용만 바뀜(진행률 등)
+    public void changed(Task t) {
+        Column c = columnOf.get(t);
+        if (c != null) c.changed(t);
+    }
+
+    // ===================== 한 칸 =====================
+
+    private final class Column extends AbstractListModel<Task> {
+        private static final long serialVersionUID = 1L;
+
+        private List<Task> items = new ArrayList<Task>();
+
+        @Override public int getSize() { return items.size(); }
+        @Override public Task getElementAt(int i) { return items.get(i); }
+
+        void replaceAll(List<Task> next) {
+            int old = items.size();
+            items = next;
+            if (old > 0) fireIntervalRemoved(this, 0, old - 1);
+            if (!next.isEmpty()) fireIntervalAdded(this, 0, next.size() - 1);
+        }
+
+        void insert(Task t) {
+            int i = lowerBound(project.indexOf(t));
+            items.add(i, t);
+            fireIntervalAdded(this, i, i);
+        }
+
+        void remove(Task t) {
+            int i = positionOf(t);
+            if (i < 0) return;
+            items.remove(i);
+            fireIntervalRemoved(this, i, i);
+        }
+
+        // 프로젝트에서 이미 빠진 업무: 앞은 index < old, 뒤는 index >= old 라서
+        // "index >= old"인 첫 자리 바로 앞이 그 카드
+        void removeDetached(Task t, int oldIndex) {
+            int i = lowerBound(oldIndex) - 1;
+            if (i < 0 || items.get(i) != t) i = items.indexOf(t);
+            if (i < 0) return;
+            items.remove(i);
+            fireIntervalRemoved(this, i, i);
+        }
+
+        void changed(Task t) {
+            int i = positionOf(t);
+            if (i >= 0) fireContentsChanged(this, i, i);
+        }
+
+        int positionOf(Task t) {
+            int i = lowerBound(project.indexOf(t));
+            return (i < items.size() && items.get(i) == t) ? i : -1;
+        }
+
+        // Task.index >= index 인 첫 자리
+        private int lowerBound(int index) {
+            int lo = 0, hi = items.size();
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (project.indexOf(items.get(mid)) < index) lo = mid + 1;
+                else hi = mid;
+            }
+            return lo;
+        }
+    }
+}
@@ -1,14 +1,17 @@
 package ui;
 
+import data.Member;
 import data.Project;
+import data.ProjectChangeListener;
 import data.Task;
 import data.TaskStatus;
 
 import javax.swing.*;
 import java.awt.*;
+import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
 
-public class MyTasksPanel extends JPanel {
+public class MyTasksPanel extends JPanel implements ProjectChangeListener {
     private final Project project;
     private final String loginName;
     private final DataChangeListener listener;
@@ -32,6 +35,9 @@ public class MyTasksPanel extends JPanel {
 
     private Task cur = null;
 
+    // bind() 중에 컨트롤 값이 바뀌어도 다시 업데이트하지 않도록
+    private boolean binding = false;
+
     public MyTasksPanel(Project project, String loginName, DataChangeListener listener) {
         this.project = project;
         this.loginName = loginName;
@@ -49,9 +55,11 @@ public class MyTasksPanel extends JPanel {
                 super.getListCellRendererComponent(l, value, index, isSelected, cellHasFocus);
                 if (value instanceof Task) {
                     Task t = (Task) value;
-                    long d = ChronoUnit.DAYS.between(project.getSimDate(), t.getPlanEnd());
-                    int exp = t.getExpectedProgress(project.getSimDate());
-                    int delta = t.getScheduleDelta(project.getSimDate());
+                    // ✅ epoch-day 정수 계산(그릴 때마다 LocalDate 계산 X)
+                    int sim = Task.toDay(project.getSimDate());
+                    long d = (long) t.getPlanEndDay() - sim;
+                    int exp = t.getExpectedProgress(sim);
+                    int delta = t.getScheduleDelta(sim);
                     String s = (delta < 0) ? (" / 늦음 " + (-delta) + "%") : (delta > 0 ? (" / 빠름 " + delta + "%") : "");
                     setText(t.getTitle() + "  / D-" + d + "  / 현재 " + t.getProgress() + "% / 예상 " + exp + "%" + s);
                 }
@@ -73,16 +81,16 @@ public class MyTasksPanel extends JPanel {
         plus10.addActionListener(e -> changeProgress(+10));
         minus10.addActionListener(e -> changeProgress(-10));
 
+        // ✅ 드래그 중에도 바로 반영(화면 갱신은 RefreshScheduler가 프레임 단위로 묶음)
+        //    경고 확인은 드래그를 놓았을 때 한 번만
         slider.addChangeListener(e -> {
-            if (cur == null) return;
-            if (slider.getValueIsAdjusting()) return;
+            if (cur == null || binding) return;
             cur.updateProgress(slider.getValue());
-            listener.onDataChanged();
-            bind(cur);
+            if (!slider.getValueIsAdjusting()) listener.onDataChanged();
         });
 
         statusCombo.addActionListener(e -> {
-            if (cur == null) return;
+            if (cur == null || binding) return;
             TaskStatus st = (TaskStatus) statusCombo.getSelectedItem();
             if (st == null) return;
 
@@ -90,11 +98,10 @@ public class MyTasksPanel extends JPanel {
             if (st == TaskStatus.DONE) cur.updateProgress(100);
 
             listener.onDataChanged();
-            bind(cur);
         });
 
         blockedCheck.addActionListener(e -> {
-            if (cur == null) return;
+            if (cur == null || binding) return;
             if (blockedCheck.isSelected()) {
                 cur.updateStatus(TaskStatus.BLOCKED);
             } else {
@@ -103,7 +110,6 @@ public class MyTasksPanel extends JPanel {
                 else cur.updateStatus(TaskStatus.NOT_STARTED);
             }
             listener.onDataChanged();
-            bind(cur);
         });
 
         refresh();
@@ -173,10 +179,18 @@ public class MyTasksPanel extends JPanel {
         p = Math.max(0, Math.min(100, p));
         cur.updateProgress(p);
         listener.onDataChanged();
-        bind(cur);
     }
 
     private void bind(Task t) {
+        binding = true;
+        try {
+            bindControls(t);
+        } finally {
+            binding = false;
+        }
+    }
+
+    private void bindControls(Task t) {
         if (t == null) {
             titleLabel.setText("-");
             ddLabel.setText("-");
@@ -211,11 +225,49 @@ public class MyTasksPanel extends JPanel {
 
     public void refresh() {
         model.clear();
-        for (Task t : project.getTasks()) {
-            if (t.getAssignee() != null && loginName.equals(t.getAssignee().getName())) {
-                model.addElement(t);
-            }
+        // ✅ 로그인한 팀원 업무만 담당자 인덱스에서
+        Member me = project.findMemberByName(loginName);
+        if (me != null) {
+            for (Task t : project.getTasksByAssignee(me)) model.addElement(t);
+        }
+        list.repaint();
+    }
+
+    private boolean isMine(Task t) {
+        return t.getAssignee() != null && loginName.equals(t.getAssignee().getName());
+    }
+
+    // ===== Project 변경 이벤트(내 업무 행만 반영) =====
+    @Override
+    public void taskAdded(Task t) {
+        if (isMine(t)) model.addElement(t);
+    }
+
+    @Override
+    public void taskRemoved(Task t, int index) {
+        model.removeElement(t);
+        if (cur == t) {
+            cur = null;
+            bind(null);
         }
+    }
+
+    @Override
+    public void progressChanged(Task t) { taskRowChanged(t); }
+
+    @Override
+    public void statusChanged(Task t, TaskStatus oldStatus) { taskRowChanged(t); }
+
+    private void taskRowChanged(Task t) {
+        int i = model.indexOf(t);
+        if (i < 0) return;
+        model.set(i, t);
+        if (t == cur) bind(cur);
+    }
+
+    @Override
+    public void simDateChanged(LocalDate simDate) {
         list.repaint();
+        bind(cur);
     }
 }
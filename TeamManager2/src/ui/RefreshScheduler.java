@@ -0,0 +1,85 @@
+package ui;
+
+import javax.swing.Timer;
+import java.awt.Component;
+import java.awt.event.HierarchyEvent;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 화면 갱신 스케줄러
+ *
+ * ✅ 같은 key로 몇 번을 요청해도 다음 프레임(16ms)에 한 번만 실행
+ *    (슬라이더 드래그, +10% 연타 같은 연속 변경을 하나로 묶음)
+ * ✅ key가 화면에 안 보이는 컴포넌트면 실행하지 않고, 보이게 될 때 실행
+ *
+ * EDT에서만 사용
+ */
+public class RefreshScheduler {
+
+    public static final int FRAME_MS = 16;
+
+    private final Map<Object, Runnable> pending = new LinkedHashMap<Object, Runnable>();
+
+    // 숨겨진 컴포넌트 → 보일 때 실행할 갱신
+    private final Map<Component, Runnable> deferred = new LinkedHashMap<Component, Runnable>();
+    private final Set<Component> watched = Collections.newSetFromMap(new IdentityHashMap<Component, Boolean>());
+
+    private final Timer timer;
+
+    public RefreshScheduler() {
+        timer = new Timer(FRAME_MS, e -> flush());
+        timer.setRepeats(false);
+        timer.setCoalesce(true);
+    }
+
+    public void request(Object key, Runnable work) {
+        if (key == null || work == null) return;
+        pending.put(key, work);
+        if (!timer.isRunning()) timer.start();
+    }
+
+    public void flush() {
+        timer.stop();
+
+        // 실행 중 들어온 요청은 다음 프레임으로 넘어가도록 복사 후 비움
+        List<Map.Entry<Object, Runnable>> batch = new ArrayList<Map.Entry<Object, Runnable>>(pending.entrySet());
+        pending.clear();
+
+        for (Map.Entry<Object, Runnable> e : batch) {
+            Object key = e.getKey();
+            if (key instanceof Component c && !c.isShowing()) {
+                defer(c, e.getValue());
+                continue;
+            }
+            e.getValue().run();
+        }
+    }
+
+    public void stop() {
+        timer.stop();
+        pending.clear();
+        deferred.clear();
+    }
+
+    private void defer(Component c, Runnable work) {
+        deferred.put(c, work);
+        if (!watched.add(c)) return;
+
+        c.addHierarchyListener(e -> {
+            if ((e.getChangeFlags() & HierarchyEvent.SHOWING_CHANGED) == 0) return;
+            if (!c.isShowing()) return;
+
+            Runnable w = deferred.remove(c);
+            if (w != null) {
+                pending.remove(c);
+                w.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,362 @@
+package ui;
+
+import data.Member;
+import data.Project;
+import data.ProjectChangeListener;
+import data.Task;
+import data.TaskStatus;
+
+import javax.swing.JOptionPane;
+import javax.swing.JTable;
+import javax.swing.table.AbstractTableModel;
+import java.awt.Component;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 업무 표 모델(PLAN 화면 표, TeamPanel 표가 각자 하나씩)
+ *
+ * ✅ Project 이벤트를 받아서 바뀐 행만 표에 반영
+ * ✅ 정렬(담당자/카테고리/계획 마감/진행률)·거르기(담당자/카테고리)
+ *    - 정렬/거르기를 바꿀 때만 한 번 정렬, 그 뒤 업무 추가/삭제/진행률 변경은
+ *      이진 탐색으로 그 행만 넣고 빼기(행 하나 = 이벤트 하나)
+ *    - 거르기는 Project 담당자/카테고리 인덱스에서 후보만 꺼냄
+ *    - 정렬 안 하고 거르지도 않으면 업무 목록 그대로(행 = 목록 위치)
+ *
+ * progressEditable = false(팀 화면): 진행률은 "n%" 글자로만, 실제 시작/마감만 수정(예전 TeamPanel 표와 같음)
+ * 같은 값끼리는 업무 목록 순서, EDT에서만 사용
+ */
+public class TaskGridModel extends AbstractTableModel implements ProjectChangeListener {
+    private static final long serialVersionUID = 1L;
+
+    public enum SortKey { NONE, ASSIGNEE, CATEGORY, PLAN_END, PROGRESS }
+
+    public static final int COL_ASSIGNEE = 0;
+    public static final int COL_CATEGORY = 1;
+    public static final int COL_PLAN_END = 5;
+    public static final int COL_ACTUAL_START = 6;
+    public static final int COL_ACTUAL_END = 7;
+    public static final int COL_PROGRESS = 8;
+
+    private final String[] cols = {
+            "담당자", "카테고리", "업무", "난이도",
+            "계획 시작", "계획 마감", "실제 시작", "실제 마감", "진행률"
+    };
+
+    private final Project project;
+    private final DataChangeListener listener;
+    private final Component dialogOwner;
+    private final boolean progressEditable;
+
+    private SortKey sortKey = SortKey.NONE;
+    private Member assigneeFilter;      // null = 전체
+    private String categoryFilter;      // null = 전체
+
+    // 정렬/거르기 중일 때만 사용(보이는 행 순서대로, 걸러진 업무는 없음)
+    private final List<Row> rows = new ArrayList<Row>();
+    private final Map<Task, Row> rowOf = new IdentityHashMap<Task, Row>();
+    private long nextSeq = 0;
+
+    // 행 하나: 정렬 키는 넣을 때 값으로 고정(바뀌면 빼고 다시 넣음)
+    private static final class Row {
+        final Task task;
+        final long seq;         // 업무 목록 순서(추가 순서라 지워져도 순서 그대로)
+        int progress;
+
+        Row(Task task, long seq) {
+            this.task = task;
+            this.seq = seq;
+            this.progress = task.getProgress();
+        }
+    }
+
+    public TaskGridModel(Project project, DataChangeListener listener, Component dialogOwner) {
+        this(project, listener, dialogOwner, true);
+    }
+
+    public TaskGridModel(Project project, DataChangeListener listener, Component dialogOwner, boolean progressEditable) {
+        this.project = project;
+        this.listener = listener;
+        this.dialogOwner = dialogOwner;
+        this.progressEditable = progressEditable;
+    }
+
+    // ===================== 정렬/거르기 =====================
+
+    public SortKey getSortKey() { return sortKey; }
+    public Member getAssigneeFilter() { return assigneeFilter; }
+    public String getCategoryFilter() { return categoryFilter; }
+
+    public void setSortKey(SortKey key) {
+        sortKey = (key == null) ? SortKey.NONE : key;
+        rebuild();
+    }
+
+    public void setFilter(Member assignee, String category) {
+        assigneeFilter = assignee;
+        categoryFilter = category;
+        rebuild();
+    }
+
+    // 열 번호 → 정렬 키(정렬 안 되는 열은 null)
+    public static SortKey sortKeyFor(int column) {
+        return switch (column) {
+            case COL_ASSIGNEE -> SortKey.ASSIGNEE;
+            case COL_CATEGORY -> SortKey.CATEGORY;
+            case COL_PLAN_END -> SortKey.PLAN_END;
+            case COL_PROGRESS -> SortKey.PROGRESS;
+            default -> null;
+        };
+    }
+
+    // ✅ 표 머리글 클릭: 정렬 가능한 열이면 그 열로, 같은 열 한 번 더 누르면 목록 순서로
+    public void installHeaderSort(JTable table) {
+        table.getTableHeader().addMouseListener(new MouseAdapter() {
+            @Override
+            public void mouseClicked(MouseEvent e) {
+                int view = table.columnAtPoint(e.getPoint());
+                if (view < 0) return;
+                SortKey key = sortKeyFor(table.convertColumnIndexToModel(view));
+                if (key == null) return;
+                setSortKey(key == sortKey ? SortKey.NONE : key);
+            }
+        });
+    }
+
+    public Task getTaskAt(int row) {
+        return isDirect() ? project.getTasks().get(row) : rows.get(row).task;
+    }
+
+    private boolean isDirect() {
+        return sortKey == SortKey.NONE && assigneeFilter == null && categoryFilter == null;
+    }
+
+    // 정렬/거르기가 바뀔 때만(한 번 정렬)
+    private void rebuild() {
+        rows.clear();
+        rowOf.clear();
+        nextSeq = 0;
+
+        if (!isDirect()) {
+            // 번호 = 지금 목록 위치(같은 값 순서 = 목록 순서), 새 업무는 그 뒤 번호
+            for (Task t : candidates()) {
+                if (!accepts(t)) continue;
+                Row r = new Row(t, project.indexOf(t));
+                rows.add(r);
+                rowOf.put(t, r);
+            }
+            nextSeq = project.getTaskCount();
+            rows.sort(comparator());
+        }
+        fireTableDataChanged();
+    }
+
+    // 거르기 후보(인덱스에서 작은 쪽)
+    private Collection<Task> candidates() {
+        if (assigneeFilter != null && categoryFilter != null) {
+            Collection<Task> a = project.getTasksByAssignee(assigneeFilter);
+            Collection<Task> c = project.getTasksByCategory(categoryFilter);
+            return (a.size() <= c.size()) ? a : c;
+        }
+        if (assigneeFilter != null) return project.getTasksByAssignee(assigneeFilter);
+        if (categoryFilter != null) return project.getTasksByCategory(categoryFilter);
+        return project.getTasks();
+    }
+
+    private boolean accepts(Task t) {
+        if (assigneeFilter != null && t.getAssignee() != assigneeFilter) return false;
+        if (categoryFilter != null && !categoryFilter.equals(t.getCategory())) return false;
+        return true;
+    }
+
+    private Comparator<Row> comparator() {
+        Comparator<Row> key = switch (sortKey) {
+            case ASSIGNEE -> Comparator.comparing((Row r) -> r.task.getAssigneeName());
+            case CATEGORY -> Comparator.comparing((Row r) -> String.valueOf(r.task.getCategory()));
+            case PLAN_END -> Comparator.comparingInt((Row r) -> r.task.getPlanEndDay());
+            case PROGRESS -> Comparator.comparingInt((Row r) -> r.progress);
+            default -> (a, b) -> 0;
+        };
+        return key.thenComparingLong(r -> r.seq);
+    }
+
+    // 행 r이 들어갈 자리(정렬 순서)
+    private int insertionPoint(Row r) {
+        Comparator<Row> cmp = comparator();
+        int lo = 0, hi = rows.size();
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (cmp.compare(rows.get(mid), r) < 0) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    private int positionOf(Row r) {
+        int i = insertionPoint(r);
+        return (i < rows.size() && rows.get(i) == r) ? i : -1;
+    }
+
+    // ===================== 표 =====================
+
+    @Override
+    public int getRowCount() {
+        return isDirect() ? project.getTaskCount() : rows.size();
+    }
+
+    @Override
+    public int getColumnCount() {
+        return cols.length;
+    }
+
+    @Override
+    public String getColumnName(int column) {
+        return cols[column];
+    }
+
+    @Override
+    public Object getValueAt(int rowIndex, int columnIndex) {
+        Task t = getTaskAt(rowIndex);
+        return switch (columnIndex) {
+            case 0 -> t.getAssigneeName();
+            case 1 -> t.getCategory();
+            case 2 -> t.getTitle();
+            case 3 -> t.getDifficulty();
+            case 4 -> t.getPlanStart();
+            case 5 -> t.getPlanEnd();
+            case 6 -> (t.getActualStart() == null ? "" : t.getActualStart().toString());
+            case 7 -> (t.getActualEnd() == null ? "" : t.getActualEnd().toString());
+            case 8 -> progressEditable ? (Object) t.getProgress() : t.getProgress() + "%";
+            default -> "";
+        };
+    }
+
+    @Override
+    public boolean isCellEditable(int rowIndex, int columnIndex) {
+        // 실제 시작/마감(+ progressEditable이면 진행률)만 수정 가능
+        if (columnIndex == COL_PROGRESS) return progressEditable;
+        return columnIndex == COL_ACTUAL_START || columnIndex == COL_ACTUAL_END;
+    }
+
+    @Override
+    public void setValueAt(Object aValue, int rowIndex, int columnIndex) {
+        Task t = getTaskAt(rowIndex);
+        try {
+            // 값이 바뀌면 Project 이벤트로 이 행만 다시 그림(정렬 중이면 자리 이동)
+            if (columnIndex == COL_ACTUAL_START) {
+                t.setActualStart(parseOrNull(aValue));
+            } else if (columnIndex == COL_ACTUAL_END) {
+                t.setActualEnd(parseOrNull(aValue));
+            } else if (columnIndex == COL_PROGRESS) {
+                int p = Integer.parseInt(String.valueOf(aValue).trim());
+                t.updateProgress(p);
+            }
+            listener.onDataChanged();
+        } catch (Exception ex) {
+            JOptionPane.showMessageDialog(dialogOwner, progressEditable
+                    ? "입력 형식 오류!\n날짜: YYYY-MM-DD\n진행률: 0~100"
+                    : "날짜 형식 오류! 예: 2025-12-31 (또는 빈칸)");
+            fireTableRowsUpdated(rowIndex, rowIndex);
+        }
+    }
+
+    private LocalDate parseOrNull(Object v) {
+        if (v == null) return null;
+        String s = String.valueOf(v).trim();
+        if (s.isEmpty()) return null;
+        return LocalDate.parse(s);
+    }
+
+    // ===================== Project 변경 이벤트(바뀐 행만) =====================
+
+    @Override
+    public void taskAdded(Task t) {
+        if (isDirect()) {
+            int row = project.indexOf(t);
+            if (row >= 0) fireTableRowsInserted(row, row);
+            return;
+        }
+        long seq = nextSeq++;               // 새 업무는 목록 맨 뒤
+        if (!accepts(t)) return;
+        Row r = new Row(t, seq);
+        rowOf.put(t, r);
+        int i = insertionPoint(r);
+        rows.add(i, r);
+        fireTableRowsInserted(i, i);
+    }
+
+    @Override
+    public void taskRemoved(Task t, int index) {
+        if (isDirect()) {
+            fireTableRowsDeleted(index, index);
+            return;
+        }
+        Row r = rowOf.remove(t);
+        if (r == null) return;
+        int i = positionOf(r);
+        if (i < 0) return;
+        rows.remove(i);
+        fireTableRowsDeleted(i, i);
+    }
+
+    @Override
+    public void progressChanged(Task t) {
+        if (isDirect()) {
+            taskUpdated(t);
+            return;
+        }
+        Row r = rowOf.get(t);
+        if (r == null) return;
+        int i = positionOf(r);
+        r.progress = t.getProgress();
+        if (i < 0) return;
+
+        if (sortKey != SortKey.PROGRESS) {
+            fireTableRowsUpdated(i, i);
+            return;
+        }
+        // 진행률 정렬 중: 빼고 새 자리에 넣기(같은 자리면 갱신만)
+        rows.remove(i);
+        int j = insertionPoint(r);
+        rows.add(j, r);
+        if (i == j) {
+            fireTableRowsUpdated(i, i);
+        } else {
+            fireTableRowsDeleted(i, i);
+            fireTableRowsInserted(j, j);
+        }
+    }
+
+    @Override
+    public void statusChanged(Task t, TaskStatus oldStatus) {
+        // 상태 열은 없음(진행률이 같이 바뀌면 progressChanged로 옴)
+    }
+
+    @Override
+    public void taskDatesChanged(Task t) {
+        taskUpdated(t);
+    }
+
+    @Override
+    public void memberRemoved(Member m, int index) {
+        if (assigneeFilter == m) setFilter(null, categoryFilter);
+    }
+
+    private void taskUpdated(Task t) {
+        int row;
+        if (isDirect()) {
+            row = project.indexOf(t);
+        } else {
+            Row r = rowOf.get(t);
+            row = (r == null) ? -1 : positionOf(r);
+        }
+        if (row >= 0) fireTableRowsUpdated(row, row);
+    }
+}
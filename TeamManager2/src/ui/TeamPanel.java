@@ -2,18 +2,15 @@ package ui;
 
 import data.Member;
 import data.Project;
+import data.ProjectChangeListener;
 import data.Task;
 import data.TaskStatus;
 
 import javax.swing.*;
-import javax.swing.event.TableModelEvent;
-import javax.swing.table.DefaultTableModel;
 import java.awt.*;
 import java.time.LocalDate;
-import java.util.ArrayList;
-import java.util.List;
 
-public class TeamPanel extends JPanel {
+public class TeamPanel extends JPanel implements ProjectChangeListener {
     private final Project project;
     private final DataChangeListener dataChangeListener;
 
@@ -41,24 +38,16 @@ public class TeamPanel extends JPanel {
 
     private final JButton addTaskBtn = new JButton("업무 등록");
 
-    // ✅ 표: 실제 시작/마감은 “표에서 직접 입력”
-    private final DefaultTableModel taskTableModel = new DefaultTableModel(
-            new String[]{"담당자","카테고리","업무","난이도","계획 시작","계획 마감","실제 시작","실제 마감","진행률"}, 0
-    ) {
-        @Override
-        public boolean isCellEditable(int row, int column) {
-            // 실제 시작(6), 실제 마감(7)만 편집 가능
-            return (column == 6 || column == 7);
-        }
-    };
-    private final JTable taskTable = new JTable(taskTableModel);
-
-    // ✅ row -> Task 매핑용(학생식)
-    private final List<Task> tableTaskRef = new ArrayList<Task>();
+    // ✅ 표: 실제 시작/마감/진행률은 “표에서 직접 입력”
+    // (모델은 이 표 전용 TaskGridModel(진행률 읽기 전용), 업무 이벤트도 그쪽에서 받음)
+    private final TaskGridModel taskGrid;
+    private final JTable taskTable;
 
-    public TeamPanel(Project project, DataChangeListener dataChangeListener) {
+    public TeamPanel(Project project, DataChangeListener dataChangeListener, TaskGridModel taskGrid) {
         this.project = project;
         this.dataChangeListener = dataChangeListener;
+        this.taskGrid = taskGrid;
+        this.taskTable = new JTable(taskGrid);
 
         setLayout(new BorderLayout(10, 10));
 
@@ -83,9 +72,6 @@ public class TeamPanel extends JPanel {
         addRoleBtn.addActionListener(e -> addRolePopup());
         addTaskBtn.addActionListener(e -> addTask());
 
-        // ✅ 표 편집 감지(실제 일정 입력)
-        taskTableModel.addTableModelListener(e -> onTableEdited(e));
-
         refreshMembersUI();
         refreshTasksUI();
     }
@@ -207,9 +193,7 @@ public class TeamPanel extends JPanel {
         role = role.trim();
         if (role.isEmpty()) return;
 
-        project.addRole(role);
-        reloadRoleList();
-        reloadCategoryCombo(); // ✅ 역할 추가 -> 카테고리도 자동 반영
+        project.addRole(role); // ✅ roleAdded 이벤트로 역할 목록/카테고리 자동 반영
     }
 
     private void addMember() {
@@ -230,7 +214,10 @@ public class TeamPanel extends JPanel {
             rolesStr = sb.toString();
         }
 
-        project.addMember(new Member(name, rolesStr));
+        if (!project.addMember(new Member(name, rolesStr))) {
+            JOptionPane.showMessageDialog(this, "이미 있는 이름입니다.");
+            return;
+        }
         nameField.setText("");
         rolePickList.clearSelection();
 
@@ -293,34 +280,6 @@ public class TeamPanel extends JPanel {
         dataChangeListener.onDataChanged();
     }
 
-    private void onTableEdited(TableModelEvent e) {
-        if (e.getType() != TableModelEvent.UPDATE) return;
-        int row = e.getFirstRow();
-        int col = e.getColumn();
-        if (row < 0 || row >= tableTaskRef.size()) return;
-
-        // 실제 시작(6), 실제 마감(7)만 처리
-        if (col != 6 && col != 7) return;
-
-        Task t = tableTaskRef.get(row);
-        Object v = taskTableModel.getValueAt(row, col);
-        String s = (v == null) ? "" : v.toString().trim();
-
-        try {
-            LocalDate d = s.isEmpty() ? null : LocalDate.parse(s);
-
-            if (col == 6) t.setActualStart(d);
-            else t.setActualEnd(d);
-
-            // 입력 후 갱신
-            dataChangeListener.onDataChanged();
-        } catch (Exception ex) {
-            JOptionPane.showMessageDialog(this, "날짜 형식 오류! 예: 2025-12-31 (또는 빈칸)");
-            // 원상복구
-            refreshTasksUI();
-        }
-    }
-
     public void refreshMembersUI() {
         memberListModel.clear();
         assigneeCombo.removeAllItems();
@@ -332,23 +291,17 @@ public class TeamPanel extends JPanel {
     }
 
     public void refreshTasksUI() {
-        taskTableModel.setRowCount(0);
-        tableTaskRef.clear();
-
-        for (Task t : project.getTasks()) {
-            tableTaskRef.add(t);
-
-            taskTableModel.addRow(new Object[]{
-                    t.getAssignee().getName(),
-                    t.getCategory(),
-                    t.getTitle(),
-                    t.getDifficulty(),
-                    t.getPlanStart(),
-                    t.getPlanEnd(),
-                    (t.getActualStart() == null ? "" : t.getActualStart().toString()),
-                    (t.getActualEnd() == null ? "" : t.getActualEnd().toString()),
-                    t.getProgress() + "%"
-            });
-        }
+        taskGrid.fireTableDataChanged();
+    }
+
+    // ===== Project 변경 이벤트(팀원/역할만, 업무 표는 TaskGridModel이 직접) =====
+    @Override public void memberAdded(Member m) { refreshMembersUI(); }
+    @Override public void memberRemoved(Member m, int index) { refreshMembersUI(); }
+    @Override public void memberChanged(Member m) { memberJList.repaint(); }
+
+    @Override
+    public void roleAdded(String role) {
+        reloadRoleList();
+        reloadCategoryCombo();
     }
-}
\ No newline at end of file
+}
@@ -1,8 +1,8 @@
 package ui;
 
+import calc.ProjectStats;
 import data.Project;
 import data.Task;
-import data.TaskStatus;
 
 import javax.swing.*;
 import java.awt.*;
@@ -16,16 +16,15 @@ public class UrgentTasksDialog extends JDialog {
 
         DefaultListModel<String> model = new DefaultListModel<String>();
 
-        for (Task t : project.getTasks()) {
+        // ✅ 집계 한 번에 모아둔 마감 임박 미완료 업무(업무 목록 순)
+        for (Task t : ProjectStats.of(project).getDueSoonTasks()) {
             long daysLeft = ChronoUnit.DAYS.between(project.getSimDate(), t.getPlanEnd());
-            if (daysLeft <= 3 && t.getStatus() != TaskStatus.DONE) {
-                String line = t.getTitle()
-                        + " / " + t.getAssignee().getName()
-                        + " / D-" + daysLeft
-                        + " / " + t.getProgress() + "%"
-                        + " / " + t.getStatus();
-                model.addElement(line);
-            }
+            String line = t.getTitle()
+                    + " / " + t.getAssigneeName()
+                    + " / D-" + daysLeft
+                    + " / " + t.getProgress() + "%"
+                    + " / " + t.getStatus();
+            model.addElement(line);
         }
 
         if (model.isEmpty()) {
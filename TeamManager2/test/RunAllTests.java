@@ -0,0 +1,37 @@
+import java.lang.reflect.InvocationTargetException;
+
+/**
+ * test/ 아래 테스트 전부 실행(테스트 프레임워크 없이 main만 있는 테스트들)
+ *
+ * 실행(TeamManager2에서):
+ *   javac -encoding UTF-8 -d out $(find src -name '*.java')
+ *   javac -encoding UTF-8 -cp out -d out-test $(find test -name '*.java')
+ *   java -Djava.awt.headless=true -cp out:out-test RunAllTests
+ *
+ * 하나라도 실패하면 종료 코드 1
+ */
+public class RunAllTests {
+
+    private static final String[] TESTS = {
+            "store.ProjectStoreTest",
+            "store.ProjectJournalTest",
+            "data.IntervalIndexTest",
+            "data.TaskColumnsTest",
+            "calc.ProjectStatsTest",
+    };
+
+    public static void main(String[] args) throws Exception {
+        int failed = 0;
+        for (String name : TESTS) {
+            try {
+                Class.forName(name).getMethod("main", String[].class).invoke(null, (Object) new String[0]);
+            } catch (InvocationTargetException ex) {
+                failed++;
+                System.out.println(name + " 실패");
+                ex.getCause().printStackTrace(System.out);
+            }
+        }
+        System.out.println(failed == 0 ? "전체 통과" : failed + "개 실패");
+        System.exit(failed == 0 ? 0 : 1);
+    }
+}
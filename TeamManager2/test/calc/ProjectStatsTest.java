@@ -0,0 +1,123 @@
+package calc;
+
+import calc.ProjectStats.Accumulator;
+import calc.ProjectStats.RangeTask;
+import data.Member;
+import data.Project;
+import data.ProjectSnapshot;
+import data.Task;
+import data.TaskColumns;
+import data.TaskStatus;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * 프로젝트 통계(ProjectStats) 테스트
+ *
+ * - 행 구간을 나눠 병렬로 모은 결과(RangeTask) = 한 스레드로 처음부터 끝까지 모은 결과(Accumulator)
+ *   (마감 임박 목록 순서, 경고 업무까지 같아야 함)
+ * - 취소되면 CancellationException(작은 프로젝트/큰 프로젝트 둘 다)
+ */
+public class ProjectStatsTest {
+
+    // PARALLEL_THRESHOLD보다 많게, 마지막 조각은 덜 차게
+    static final int PARALLEL_ROWS = ProjectStats.PARALLEL_THRESHOLD + 4321;
+
+    public static void main(String[] args) {
+        Project p = bigProject(PARALLEL_ROWS, 3);
+        ProjectSnapshot s = p.snapshot();
+        TaskColumns c = s.getColumns();
+        int sim = Task.toDay(s.getSimDate());
+
+        Accumulator seq = new Accumulator(c, sim, () -> false);
+        seq.accumulate(0, c.size());
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            Accumulator par = pool.invoke(new RangeTask(c, sim, () -> false, 0, c.size()));
+            assertSame(seq, par);
+
+            // 조각 경계에 안 맞는 구간도
+            int from = 1234, to = c.size() - 567;
+            Accumulator seqPart = new Accumulator(c, sim, () -> false);
+            seqPart.accumulate(from, to);
+            assertSame(seqPart, pool.invoke(new RangeTask(c, sim, () -> false, from, to)));
+        } finally {
+            pool.shutdown();
+        }
+
+        check(seq.taskCount == p.getTaskCount(), "업무 수");
+        check(seq.dueSoonSize > 0 && seq.delayedCount > 0, "테스트 데이터가 임박/지연을 포함");
+        check(seq.zeroProgressAlertRow >= 0 && seq.lateAlertRow >= 0, "테스트 데이터가 경고를 포함");
+
+        cancelled(bigProject(50, 1).snapshot());
+        cancelled(s);
+
+        System.out.println("ProjectStatsTest OK");
+    }
+
+    private static void cancelled(ProjectSnapshot s) {
+        try {
+            ProjectStats.of(s, () -> true);
+            throw new AssertionError("취소했는데 끝까지 계산됨(" + s.getTasks().size() + "개)");
+        } catch (CancellationException expected) {
+            // 정상
+        }
+    }
+
+    static Project bigProject(int n, long seed) {
+        Random rnd = new Random(seed);
+        Project p = new Project();
+        LocalDate sim = LocalDate.of(2025, 5, 1);
+        p.setSimDate(sim);
+
+        Member[] members = new Member[12];
+        for (int i = 0; i < members.length; i++) {
+            members[i] = new Member("m" + i, "개발");
+            p.addMember(members[i]);
+        }
+        for (int i = 0; i < n; i++) {
+            Member a = rnd.nextInt(10) == 0 ? null : members[rnd.nextInt(members.length)];
+            String cat = rnd.nextInt(10) == 0 ? null : "cat" + rnd.nextInt(8);
+            LocalDate ps = rnd.nextInt(8) == 0 ? null : sim.minusDays(rnd.nextInt(60));
+            LocalDate pe = sim.plusDays(rnd.nextInt(40) - 10);
+            Task t = new Task("t" + i, cat, a, 1 + rnd.nextInt(5), ps, pe);
+            p.addTask(t);
+            int r = rnd.nextInt(10);
+            if (r < 3) t.updateProgress(0);
+            else if (r < 9) t.updateProgress(rnd.nextInt(101));
+            else t.updateStatus(TaskStatus.BLOCKED);
+        }
+        return p;
+    }
+
+    private static void assertSame(Accumulator a, Accumulator b) {
+        check(a.taskCount == b.taskCount, "taskCount");
+        check(Arrays.equals(a.statusCounts, b.statusCounts), "statusCounts");
+        check(a.startedCount == b.startedCount, "startedCount");
+        check(a.deltaSum == b.deltaSum, "deltaSum");
+        check(Arrays.equals(a.memberTasks, b.memberTasks), "memberTasks");
+        check(Arrays.equals(a.memberDone, b.memberDone), "memberDone");
+        check(Arrays.equals(a.memberStarted, b.memberStarted), "memberStarted");
+        check(Arrays.equals(a.memberOverdue, b.memberOverdue), "memberOverdue");
+        check(Arrays.equals(a.memberDueSoon, b.memberDueSoon), "memberDueSoon");
+        check(Arrays.equals(a.memberDeltaSum, b.memberDeltaSum), "memberDeltaSum");
+        check(Arrays.equals(a.categoryProgress, b.categoryProgress), "categoryProgress");
+        check(Arrays.equals(a.categoryCount, b.categoryCount), "categoryCount");
+        check(a.zeroProgressAlertRow == b.zeroProgressAlertRow, "zeroProgressAlertRow");
+        check(a.lateAlertRow == b.lateAlertRow, "lateAlertRow");
+        check(a.dueSoonSize == b.dueSoonSize, "dueSoonSize");
+        check(Arrays.equals(Arrays.copyOf(a.dueSoonRows, a.dueSoonSize), Arrays.copyOf(b.dueSoonRows, b.dueSoonSize)),
+                "dueSoonRows 순서");
+        check(a.dueSoonZeroProgress == b.dueSoonZeroProgress, "dueSoonZeroProgress");
+        check(a.delayedCount == b.delayedCount, "delayedCount");
+    }
+
+    private static void check(boolean ok, String what) {
+        if (!ok) throw new AssertionError(what);
+    }
+}
@@ -0,0 +1,70 @@
+package data;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 기간 인덱스(IntervalIndex) 테스트
+ *
+ * 무작위로 업무 추가/삭제/실제 시작일 변경을 하면서 sortedByStart()가
+ * 예전 간트 방식(업무 목록을 시작일로 안정 정렬, 시작일 없는 업무는 목록 순으로 맨 뒤)과 같은지 비교
+ */
+public class IntervalIndexTest {
+
+    public static void main(String[] args) {
+        Random rnd = new Random(12);
+        Project p = new Project();
+
+        for (int i = 0; i < 300; i++) p.addTask(randomTask(rnd, i));
+        compare(p, "추가 후");
+
+        for (int k = 0; k < 4000; k++) {
+            int op = rnd.nextInt(10);
+            if (op < 3 && p.getTaskCount() > 0) {
+                p.removeTask(p.getTasks().get(rnd.nextInt(p.getTaskCount())));
+            } else if (op < 6) {
+                p.addTask(randomTask(rnd, 300 + k));
+            } else if (p.getTaskCount() > 0) {
+                Task t = p.getTasks().get(rnd.nextInt(p.getTaskCount()));
+                // 같은 날짜가 자주 겹치게 좁은 범위 + 가끔 지우기
+                t.setActualStart(rnd.nextInt(4) == 0 ? null : LocalDate.of(2025, 3, 1).plusDays(rnd.nextInt(20)));
+            }
+            if (k % 100 == 0) compare(p, "변경 " + k);
+        }
+        compare(p, "끝");
+
+        System.out.println("IntervalIndexTest OK");
+    }
+
+    static Task randomTask(Random rnd, int i) {
+        LocalDate ps = rnd.nextInt(5) == 0 ? null : LocalDate.of(2025, 3, 1).plusDays(rnd.nextInt(20));
+        return new Task("t" + i, "cat", null, 1, ps, LocalDate.of(2025, 6, 1));
+    }
+
+    static void compare(Project p, String when) {
+        check(p.getPlanRanges().size() == p.getTaskCount(), when + ": 계획 크기");
+        check(p.getActualRanges().size() == p.getTaskCount(), when + ": 실제 크기");
+        check(p.getPlanRanges().sortedByStart().equals(stableSort(p, true)), when + ": 계획 순서");
+        check(p.getActualRanges().sortedByStart().equals(stableSort(p, false)), when + ": 실제 순서");
+    }
+
+    static List<Task> stableSort(Project p, boolean plan) {
+        List<Task> withStart = new ArrayList<Task>();
+        List<Task> noStart = new ArrayList<Task>();
+        for (Task t : p.getTasks()) {
+            int s = plan ? t.getPlanStartDay() : t.getActualStartDay();
+            if (s == Task.NO_DATE) noStart.add(t);
+            else withStart.add(t);
+        }
+        withStart.sort(Comparator.comparingInt(t -> plan ? t.getPlanStartDay() : t.getActualStartDay()));
+        withStart.addAll(noStart);
+        return withStart;
+    }
+
+    static void check(boolean ok, String what) {
+        if (!ok) throw new AssertionError(what);
+    }
+}
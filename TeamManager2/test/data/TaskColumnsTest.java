@@ -0,0 +1,118 @@
+package data;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+
+/**
+ * 열 배열(TaskColumns) 테스트
+ *
+ * - 업무 추가/삭제(조각 경계 넘어가며 한 칸씩 당기기)/진행률·날짜 변경 뒤에도
+ *   i번째 행의 모든 열 = 업무 목록 i번째 업무 값
+ * - 스냅샷은 찍은 뒤 원본이 바뀌어도 그대로(copy-on-write)
+ */
+public class TaskColumnsTest {
+
+    public static void main(String[] args) {
+        Random rnd = new Random(7);
+        Project p = new Project();
+        Member[] members = { new Member("a", "개발"), new Member("b", "기획"), null };
+        for (Member m : members) if (m != null) p.addMember(m);
+
+        // 조각 3개 넘게
+        int n = TaskColumns.CHUNK_SIZE * 3 + 100;
+        for (int i = 0; i < n; i++) p.addTask(randomTask(rnd, i, members));
+        checkRows(p, "추가 후");
+
+        ProjectSnapshot before = p.snapshot();
+        List<String> frozen = rows(before.getColumns());
+
+        // 조각 경계 바로 앞/위/뒤 + 맨 앞/맨 끝 + 무작위 삭제
+        int[] edges = { TaskColumns.CHUNK_SIZE - 1, TaskColumns.CHUNK_SIZE, TaskColumns.CHUNK_SIZE + 1,
+                2 * TaskColumns.CHUNK_SIZE - 1, 0 };
+        for (int i : edges) p.removeTask(p.getTasks().get(i));
+        p.removeTask(p.getTasks().get(p.getTaskCount() - 1));
+        checkRows(p, "경계 삭제 후");
+
+        for (int k = 0; k < 3000; k++) {
+            int op = rnd.nextInt(10);
+            if (op < 4 && p.getTaskCount() > 0) {
+                p.removeTask(p.getTasks().get(rnd.nextInt(p.getTaskCount())));
+            } else if (op < 6) {
+                p.addTask(randomTask(rnd, n + k, members));
+            } else if (op < 8 && p.getTaskCount() > 0) {
+                p.getTasks().get(rnd.nextInt(p.getTaskCount())).updateProgress(rnd.nextInt(101));
+            } else if (p.getTaskCount() > 0) {
+                Task t = p.getTasks().get(rnd.nextInt(p.getTaskCount()));
+                t.setActualStart(LocalDate.of(2025, 1, 1).plusDays(rnd.nextInt(200)));
+                t.setActualEnd(rnd.nextBoolean() ? null : LocalDate.of(2025, 8, 1).plusDays(rnd.nextInt(30)));
+            }
+        }
+        checkRows(p, "무작위 변경 후");
+
+        // 지운 뒤 맨 끝 칸(당기고 남은 칸)은 업무 참조를 안 들고 있음
+        TaskColumns c = p.getColumns();
+        int end = c.size();
+        if ((end & TaskColumns.CHUNK_MASK) != 0) {
+            check(c.tasks()[end >> TaskColumns.CHUNK_BITS][end & TaskColumns.CHUNK_MASK] == null, "끝 칸 비움");
+        }
+
+        check(before.getColumns().size() == n, "스냅샷 크기 그대로");
+        check(frozen.equals(rows(before.getColumns())), "스냅샷 내용 그대로");
+
+        System.out.println("TaskColumnsTest OK");
+    }
+
+    static Task randomTask(Random rnd, int i, Member[] members) {
+        LocalDate ps = rnd.nextInt(5) == 0 ? null : LocalDate.of(2025, 1, 1).plusDays(rnd.nextInt(100));
+        LocalDate pe = LocalDate.of(2025, 5, 1).plusDays(rnd.nextInt(100));
+        String cat = (i % 4 == 0) ? null : "cat" + rnd.nextInt(5);
+        Task t = new Task("t" + i, cat, members[rnd.nextInt(members.length)], 1 + rnd.nextInt(5), ps, pe);
+        if (rnd.nextBoolean()) t.updateProgress(rnd.nextInt(101));
+        if (rnd.nextInt(10) == 0) t.updateStatus(TaskStatus.BLOCKED);
+        return t;
+    }
+
+    static void checkRows(Project p, String when) {
+        TaskColumns c = p.getColumns();
+        check(c.size() == p.getTaskCount(), when + ": 행 수");
+        for (int i = 0; i < c.size(); i++) {
+            Task t = p.getTasks().get(i);
+            check(t.index == i, when + ": index " + i);
+            check(c.task(i) == t, when + ": 업무 " + i);
+            check(row(c, i).equals(expected(t)), when + ": 행 " + i + " " + row(c, i) + " != " + expected(t));
+        }
+    }
+
+    static List<String> rows(TaskColumns c) {
+        List<String> out = new ArrayList<String>(c.size());
+        for (int i = 0; i < c.size(); i++) out.add(row(c, i));
+        return out;
+    }
+
+    static String row(TaskColumns c, int i) {
+        int ch = i >> TaskColumns.CHUNK_BITS;
+        int o = i & TaskColumns.CHUNK_MASK;
+        return c.progress()[ch][o] + "/" + c.planStart()[ch][o] + "/" + c.planEnd()[ch][o]
+                + "/" + c.actualStart()[ch][o] + "/" + c.actualEnd()[ch][o]
+                + "/" + c.status()[ch][o]
+                + "/" + name(c.member(c.assignee()[ch][o])) + "/" + c.category(c.category()[ch][o]);
+    }
+
+    static String expected(Task t) {
+        return t.getProgress() + "/" + t.getPlanStartDay() + "/" + t.getPlanEndDay()
+                + "/" + t.getActualStartDay() + "/" + t.getActualEndDay()
+                + "/" + t.getStatus().ordinal()
+                + "/" + name(t.getAssignee()) + "/" + Objects.toString(t.getCategory());
+    }
+
+    private static String name(Member m) {
+        return (m == null) ? "null" : m.getName();
+    }
+
+    static void check(boolean ok, String what) {
+        if (!ok) throw new AssertionError(what);
+    }
+}
@@ -0,0 +1,182 @@
+package store;
+
+import data.Member;
+import data.Project;
+import data.Task;
+import data.TaskStatus;
+
+import java.awt.EventQueue;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 변경 저널(ProjectJournal) 테스트
+ *
+ * - 저널만 남은 채 닫고 다시 열면(스냅샷 + 저널 적용) 같은 프로젝트
+ * - 마지막 기록의 CRC가 틀리거나 잘렸으면 그 앞까지만 적용, 세대가 다르면 저널 무시
+ * - compact(): 스냅샷 세대 +1, 저널은 헤더만 남음
+ * - 기록이 COMPACT_RECORDS개 넘으면 저널 스레드에서 압축(EDT 이벤트 중에도 내용 안 빠짐)
+ *
+ * 이벤트는 화면에서처럼 EDT에서 일으킴(백그라운드 압축이 EDT에 찍기를 예약함)
+ */
+public class ProjectJournalTest {
+
+    public static void main(String[] args) throws Exception {
+        File dir = Files.createTempDirectory("tm-journal").toFile();
+        try {
+            reopenReplaysJournal(dir);
+            badTailStopsReplay(dir);
+            compactResetsJournal(dir);
+            backgroundCompactionKeepsEverything(dir);
+        } finally {
+            ProjectStoreTest.deleteAll(dir);
+        }
+        System.out.println("ProjectJournalTest OK");
+    }
+
+    static void reopenReplaysJournal(File dir) throws Exception {
+        File f = new File(dir, "replay.tmproj");
+        Project p = ProjectStoreTest.sample();
+        ProjectJournal j = ProjectJournal.create(p, f);
+
+        onEdt(() -> edit(p));
+        j.close();
+        check(ProjectStore.loadStored(f).journalSeq == 1, "닫기만 하면 스냅샷은 그대로");
+
+        ProjectJournal reopened = ProjectJournal.open(f);
+        try {
+            ProjectStoreTest.assertSameProject(p, reopened.getProject());
+        } finally {
+            reopened.close();
+        }
+        // 다시 열 때 적용한 내용은 스냅샷으로 옮겨짐
+        ProjectStore.Stored stored = ProjectStore.loadStored(f);
+        check(stored.journalSeq == 2, "적용 후 세대 +1: " + stored.journalSeq);
+        check(ProjectJournal.journalFile(f).length() == ProjectJournal.HEADER_SIZE, "저널 비워짐");
+        ProjectStoreTest.assertSameProject(p, stored.project);
+    }
+
+    static void badTailStopsReplay(File dir) throws Exception {
+        File f = new File(dir, "crc.tmproj");
+        Project p = ProjectStoreTest.sample();
+        ProjectJournal j = ProjectJournal.create(p, f);
+
+        List<LocalDate> dates = Arrays.asList(
+                LocalDate.of(2025, 5, 1), LocalDate.of(2025, 5, 2), LocalDate.of(2025, 5, 3));
+        onEdt(() -> { for (LocalDate d : dates) p.setSimDate(d); });
+        j.close();
+
+        byte[] data = Files.readAllBytes(ProjectJournal.journalFile(f).toPath());
+        check(replayCount(f, data, 1) == 3, "기록 3개 전부");
+        check(simDateAfter(f, data, 1).equals(dates.get(2)), "마지막 날짜");
+
+        // 마지막 기록 내용 한 바이트 뒤집기 → CRC 불일치
+        byte[] flipped = data.clone();
+        flipped[flipped.length - 5] ^= 0x01;
+        check(replayCount(f, flipped, 1) == 2, "CRC 틀린 기록에서 멈춤");
+        check(simDateAfter(f, flipped, 1).equals(dates.get(1)), "그 앞까지만 적용");
+
+        // 꼬리 잘림(쓰다 죽은 경우)
+        byte[] cut = Arrays.copyOf(data, data.length - 2);
+        check(replayCount(f, cut, 1) == 2, "잘린 기록은 버림");
+
+        // 세대가 다르면(이미 스냅샷에 반영된 저널) 통째로 무시
+        check(replayCount(f, data, 2) == 0, "세대 다르면 0");
+    }
+
+    static void compactResetsJournal(File dir) throws Exception {
+        File f = new File(dir, "compact.tmproj");
+        Project p = ProjectStoreTest.sample();
+        ProjectJournal j = ProjectJournal.create(p, f);
+        try {
+            onEdt(() -> edit(p));
+            onEdt(() -> {
+                try {
+                    j.compact();
+                } catch (IOException ex) {
+                    throw new RuntimeException(ex);
+                }
+            });
+            ProjectStore.Stored stored = ProjectStore.loadStored(f);
+            check(stored.journalSeq == 2, "압축 후 세대 +1: " + stored.journalSeq);
+            check(ProjectJournal.journalFile(f).length() == ProjectJournal.HEADER_SIZE, "저널은 헤더만");
+            ProjectStoreTest.assertSameProject(p, stored.project);
+        } finally {
+            j.close();
+        }
+    }
+
+    static void backgroundCompactionKeepsEverything(File dir) throws Exception {
+        File f = new File(dir, "background.tmproj");
+        Project p = ProjectStoreTest.sample();
+        ProjectJournal j = ProjectJournal.create(p, f);
+
+        // 압축 기준(5000개)을 넘기고, 압축이 찍힌 뒤에도 계속 바꿈
+        onEdt(() -> {
+            for (int i = 0; i < 6000; i++) {
+                Task t = p.getTasks().get(i % p.getTaskCount());
+                t.updateProgress((t.getProgress() + 7) % 100);
+            }
+        });
+        onEdt(() -> edit(p));
+
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (ProjectStore.loadStored(f).journalSeq < 2) {
+            if (System.currentTimeMillis() > deadline) throw new AssertionError("백그라운드 압축 안 됨");
+            Thread.sleep(20);
+        }
+        j.close();
+
+        // 스냅샷(찍은 시점) + 새 저널(그 뒤 기록) = 마지막 상태
+        ProjectJournal reopened = ProjectJournal.open(f);
+        try {
+            ProjectStoreTest.assertSameProject(p, reopened.getProject());
+        } finally {
+            reopened.close();
+        }
+    }
+
+    // ===================== 도우미 =====================
+
+    // 저널 기록 종류마다 하나씩
+    static void edit(Project p) {
+        p.addRole("디자인");
+        Member park = new Member("park", "디자인");
+        p.addMember(park);
+        p.addMember(new Member("choi", "기획"));
+        park.setRoles(Arrays.asList("디자인", "개발"));
+
+        Task t = new Task("새 업무", "디자인", park, 3, LocalDate.of(2025, 4, 1), LocalDate.of(2025, 4, 20));
+        p.addTask(t);
+        t.setActualStart(LocalDate.of(2025, 4, 2));
+        t.updateProgress(40);
+        p.getTasks().get(5).updateStatus(TaskStatus.BLOCKED);
+        p.getTasks().get(6).setActualEnd(LocalDate.of(2025, 4, 30));
+
+        p.removeTask(p.getTasks().get(3));
+        p.removeMember(p.findMemberByName("choi"));     // 맡은 업무 없는 팀원(있으면 저장 후 미배정이 됨)
+        p.setSimDate(LocalDate.of(2025, 4, 15));
+    }
+
+    private static int replayCount(File f, byte[] data, long seq) throws IOException {
+        return ProjectJournal.replay(ProjectStore.load(f), data, seq);
+    }
+
+    private static LocalDate simDateAfter(File f, byte[] data, long seq) throws IOException {
+        Project p = ProjectStore.load(f);
+        ProjectJournal.replay(p, data, seq);
+        return p.getSimDate();
+    }
+
+    static void onEdt(Runnable r) throws Exception {
+        EventQueue.invokeAndWait(r);
+    }
+
+    static void check(boolean ok, String what) {
+        if (!ok) throw new AssertionError(what);
+    }
+}
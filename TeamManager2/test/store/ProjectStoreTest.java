@@ -0,0 +1,181 @@
+package store;
+
+import data.Member;
+import data.Project;
+import data.Task;
+import data.TaskStatus;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 프로젝트 바이너리 형식(ProjectStore) + 홈 화면 요약 블록(ProjectHeader) 테스트
+ *
+ * - 저장 → 불러오기 하면 프로젝트/역할/팀원/업무 값이 그대로
+ * - 지운 팀원이 담당하던 업무는 담당자 없음(null)으로 돌아옴
+ * - 요약 블록만 읽기(mmap 경로, 요약이 한 페이지보다 긴 경우 포함)
+ * - 깨진 상태 값은 IOException
+ */
+public class ProjectStoreTest {
+
+    public static void main(String[] args) throws Exception {
+        File dir = Files.createTempDirectory("tm-store").toFile();
+        try {
+            roundTrip(dir);
+            removedAssigneeLoadsAsNull(dir);
+            headerMatchesProject(dir);
+            longHeaderIsReadPastFirstPage(dir);
+            badStatusIsRejected(dir);
+        } finally {
+            deleteAll(dir);
+        }
+        System.out.println("ProjectStoreTest OK");
+    }
+
+    static Project sample() {
+        Project p = new Project();
+        p.setProjectName("저장 테스트");
+        p.setProjectStart(LocalDate.of(2025, 3, 1));
+        p.setProjectEnd(LocalDate.of(2025, 6, 30));
+        p.setSimDate(LocalDate.of(2025, 4, 10));
+        p.addRole("기획");
+        p.addRole("개발");
+
+        Member kim = new Member("kim", "기획,개발");
+        Member lee = new Member("lee", "개발");
+        p.addMember(kim);
+        p.addMember(lee);
+
+        for (int i = 0; i < 50; i++) {
+            Member a = (i % 3 == 0) ? kim : lee;
+            LocalDate ps = (i % 7 == 0) ? null : LocalDate.of(2025, 3, 1).plusDays(i);
+            Task t = new Task("업무" + i, (i % 2 == 0) ? "개발" : "기획", a, 1 + i % 5,
+                    ps, LocalDate.of(2025, 3, 10).plusDays(i));
+            p.addTask(t);
+            if (i % 4 == 0) t.setActualStart(LocalDate.of(2025, 3, 2).plusDays(i));
+            if (i % 8 == 0) t.setActualEnd(LocalDate.of(2025, 3, 20).plusDays(i));
+            t.updateProgress((i * 13) % 101);
+            if (i % 9 == 0) t.updateStatus(TaskStatus.BLOCKED);
+        }
+        return p;
+    }
+
+    static void roundTrip(File dir) throws IOException {
+        Project p = sample();
+        File f = new File(dir, "round.tmproj");
+        ProjectStore.save(p, f);
+        assertSameProject(p, ProjectStore.load(f));
+    }
+
+    static void removedAssigneeLoadsAsNull(File dir) throws IOException {
+        Project p = sample();
+        Member lee = p.findMemberByName("lee");
+        p.removeMember(lee);
+
+        File f = new File(dir, "removed.tmproj");
+        ProjectStore.save(p, f);
+        Project q = ProjectStore.load(f);
+
+        check(q.getMembers().size() == 1, "지운 팀원은 저장 안 됨");
+        for (int i = 0; i < p.getTaskCount(); i++) {
+            boolean wasLee = p.getTasks().get(i).getAssignee() == lee;
+            Member loaded = q.getTasks().get(i).getAssignee();
+            check(wasLee ? loaded == null : loaded != null, "담당자 " + i);
+            if (wasLee) check(Task.UNASSIGNED.equals(q.getTasks().get(i).getAssigneeName()), "미배정 이름 " + i);
+        }
+    }
+
+    static void headerMatchesProject(File dir) throws IOException {
+        Project p = sample();
+        File f = new File(dir, "header.tmproj");
+        ProjectStore.save(p, f);
+
+        ProjectHeader h = ProjectHeader.read(f);
+        check(h != null, "v3 파일은 요약이 있음");
+        check(p.getProjectName().equals(h.name), "이름");
+        check(p.getProjectStart().equals(h.start) && p.getProjectEnd().equals(h.end), "기간");
+        check(p.getSimDate().equals(h.simDate), "simDate");
+        check(h.taskCount == p.getTaskCount(), "업무 수");
+        check(h.doneCount == p.getStatusCount(TaskStatus.DONE), "완료 수");
+        check(h.blockedCount == p.getStatusCount(TaskStatus.BLOCKED), "Blocked 수");
+    }
+
+    static void longHeaderIsReadPastFirstPage(File dir) throws IOException {
+        Project p = sample();
+        char[] name = new char[3000];
+        Arrays.fill(name, '가');                    // UTF-8 3바이트 → 요약이 9000바이트 넘음
+        p.setProjectName(new String(name));
+
+        File f = new File(dir, "long.tmproj");
+        ProjectStore.save(p, f);
+        ProjectHeader h = ProjectHeader.read(f);
+        check(p.getProjectName().equals(h.name), "긴 이름도 그대로");
+        check(h.taskCount == p.getTaskCount(), "긴 요약 뒤 숫자");
+    }
+
+    static void badStatusIsRejected(File dir) throws IOException {
+        File f = new File(dir, "bad.tmproj");
+        ProjectStore.save(sample(), f);
+
+        // 파일 맨 끝 바이트 = 마지막 업무의 상태
+        try (RandomAccessFile raf = new RandomAccessFile(f, "rw")) {
+            raf.seek(raf.length() - 1);
+            raf.writeByte(99);
+        }
+        try {
+            ProjectStore.load(f);
+            throw new AssertionError("깨진 상태 값인데 불러와짐");
+        } catch (IOException expected) {
+            check(expected.getMessage().contains("99"), "오류 메시지에 값: " + expected.getMessage());
+        }
+    }
+
+    // ===================== 비교 =====================
+
+    static void assertSameProject(Project a, Project b) {
+        check(Objects.equals(a.getProjectName(), b.getProjectName()), "이름");
+        check(Objects.equals(a.getProjectStart(), b.getProjectStart()), "시작");
+        check(Objects.equals(a.getProjectEnd(), b.getProjectEnd()), "종료");
+        check(Objects.equals(a.getSimDate(), b.getSimDate()), "simDate");
+        check(a.getRoles().equals(b.getRoles()), "역할");
+
+        List<Member> am = a.getMembers();
+        List<Member> bm = b.getMembers();
+        check(am.size() == bm.size(), "팀원 수");
+        for (int i = 0; i < am.size(); i++) {
+            check(am.get(i).getName().equals(bm.get(i).getName()), "팀원 이름 " + i);
+            check(am.get(i).getRoles().equals(bm.get(i).getRoles()), "팀원 역할 " + i);
+        }
+
+        check(a.getTaskCount() == b.getTaskCount(), "업무 수");
+        for (int i = 0; i < a.getTaskCount(); i++) {
+            Task x = a.getTasks().get(i);
+            Task y = b.getTasks().get(i);
+            String at = "업무 " + i;
+            check(x.getTitle().equals(y.getTitle()), at + " 이름");
+            check(Objects.equals(x.getCategory(), y.getCategory()), at + " 카테고리");
+            check(x.getAssigneeName().equals(y.getAssigneeName()), at + " 담당자");
+            check(x.getDifficulty() == y.getDifficulty(), at + " 난이도");
+            check(x.getPlanStartDay() == y.getPlanStartDay() && x.getPlanEndDay() == y.getPlanEndDay(), at + " 계획");
+            check(x.getActualStartDay() == y.getActualStartDay() && x.getActualEndDay() == y.getActualEndDay(), at + " 실제");
+            check(x.getProgress() == y.getProgress(), at + " 진행률");
+            check(x.getStatus() == y.getStatus(), at + " 상태");
+        }
+    }
+
+    static void check(boolean ok, String what) {
+        if (!ok) throw new AssertionError(what);
+    }
+
+    static void deleteAll(File f) {
+        File[] children = f.listFiles();
+        if (children != null) for (File c : children) deleteAll(c);
+        f.delete();
+    }
+}